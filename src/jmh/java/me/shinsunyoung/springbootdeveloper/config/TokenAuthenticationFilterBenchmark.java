@@ -0,0 +1,91 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import me.shinsunyoung.springbootdeveloper.config.jwt.JwtProperties;
+import me.shinsunyoung.springbootdeveloper.config.jwt.TokenProvider;
+import me.shinsunyoung.springbootdeveloper.config.jwt.VerifiedTokenCache;
+import me.shinsunyoung.springbootdeveloper.service.TokenRevocationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 요청당 TokenAuthenticationFilter 오버헤드 (평균 시간)
+// unclassified*: 경로 분류 없이 모든 요청에서 토큰을 처리하던 이전 방식
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenAuthenticationFilterBenchmark {
+
+    private TokenAuthenticationFilter filter;
+    private TokenAuthenticationFilter unclassifiedFilter;
+    private String authorization;
+
+    @Setup
+    public void setup() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("test@email.com");
+        jwtProperties.setSecretKey("dGVzdC1iZW5jaG1hcmstc2VjcmV0LWtleS0zMi1ieXRlcw==");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties);
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(tokenProvider, jwtProperties, meterRegistry);
+        // 폐기된 토큰이 없으므로 Bloom 필터에서 끝나고 저장소는 사용되지 않는다
+        TokenRevocationService revocations = new TokenRevocationService(null, tokenProvider, verifiedTokenCache,
+                null, new BlogProperties(), meterRegistry);
+
+        filter = new TokenAuthenticationFilter(tokenProvider, verifiedTokenCache, revocations, meterRegistry);
+        unclassifiedFilter = new TokenAuthenticationFilter(tokenProvider, verifiedTokenCache, revocations, meterRegistry) {
+            @Override
+            protected boolean shouldNotFilter(HttpServletRequest request) {
+                return false;
+            }
+        };
+        authorization = "Bearer " + tokenProvider.generateToken(1L, "user@gmail.com", Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public Object publicRoute() throws Exception {
+        return run(filter, "GET", "/articles", null);
+    }
+
+    @Benchmark
+    public Object publicRouteWithToken() throws Exception {
+        return run(filter, "GET", "/articles", authorization);
+    }
+
+    @Benchmark
+    public Object unclassifiedPublicRouteWithToken() throws Exception {
+        return run(unclassifiedFilter, "GET", "/articles", authorization);
+    }
+
+    @Benchmark
+    public Object protectedRoute() throws Exception {
+        return run(filter, "GET", "/api/articles", authorization);
+    }
+
+    private static Object run(TokenAuthenticationFilter filter, String method, String uri, String authorization)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
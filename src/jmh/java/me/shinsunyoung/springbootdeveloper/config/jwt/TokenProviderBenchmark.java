@@ -0,0 +1,89 @@
+package me.shinsunyoung.springbootdeveloper.config.jwt;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import me.shinsunyoung.springbootdeveloper.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 생성/검증 처리량 비교
+// legacy*: 호출마다 빌더/파서를 만들고 문자열 비밀키를 디코딩하던 이전 방식
+// provider*: 미리 디코딩한 키와 공유 파서를 쓰는 TokenProvider (generateToken/validToken/getAuthentication)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class TokenProviderBenchmark {
+
+    private JwtProperties jwtProperties;
+    private TokenProvider tokenProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("test@email.com");
+        jwtProperties.setSecretKey("dGVzdC1iZW5jaG1hcmstc2VjcmV0LWtleS0zMi1ieXRlcw==");
+        tokenProvider = new TokenProvider(jwtProperties);
+        user = User.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .build();
+        token = tokenProvider.generateToken(user, Duration.ofDays(14));
+    }
+
+    @Benchmark
+    public String legacyGenerate() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setIssuer(jwtProperties.getIssuer())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + Duration.ofDays(14).toMillis()))
+                .setSubject(user.getEmail())
+                .claim("id", user.getId())
+                .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecretKey())
+                .compact();
+    }
+
+    @Benchmark
+    public boolean legacyValidate() {
+        try {
+            Jwts.parser()
+                    .setSigningKey(jwtProperties.getSecretKey())
+                    .parseClaimsJws(token);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public String providerGenerate() {
+        return tokenProvider.generateToken(user, Duration.ofDays(14));
+    }
+
+    @Benchmark
+    public boolean providerValidate() {
+        return tokenProvider.validToken(token);
+    }
+
+    // 서명 검증 + 클레임으로 Authentication 생성 (캐시를 거치지 않는 경우)
+    @Benchmark
+    public Authentication providerAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+}
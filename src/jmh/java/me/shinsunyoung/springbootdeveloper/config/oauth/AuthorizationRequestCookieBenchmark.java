@@ -0,0 +1,76 @@
+package me.shinsunyoung.springbootdeveloper.config.oauth;
+
+import jakarta.servlet.http.Cookie;
+import me.shinsunyoung.springbootdeveloper.util.CookieUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 인가 요청 쿠키 인코딩/디코딩 시간 비교 (Java 직렬화 vs 전용 코덱)
+// 쿠키 크기는 Setup에서 한 번 출력한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthorizationRequestCookieBenchmark {
+
+    private OAuth2AuthorizationRequest request;
+    private OAuth2AuthorizationRequestCookieCodec codec;
+    private Cookie serializedCookie;
+    private Cookie encodedCookie;
+
+    @Setup
+    public void setup() {
+        request = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("412531422125-example.apps.googleusercontent.com")
+                .redirectUri("http://localhost:8080/login/oauth2/code/google")
+                .scopes(Set.of("email", "profile"))
+                .state("d2VsbC1mb3JtZWQtc3RhdGUtdmFsdWUtZm9yLXRlc3Rz")
+                .attributes(Map.of("registration_id", "google"))
+                .build();
+        codec = new OAuth2AuthorizationRequestCookieCodec("benchmark-cookie-secret".getBytes(StandardCharsets.UTF_8));
+
+        serializedCookie = new Cookie("oauth2_auth_request", serialize(request));
+        encodedCookie = new Cookie("oauth2_auth_request", CookieUtil.encode(request, codec));
+        System.out.printf("%ncookie size: java serialization=%d bytes, codec=%d bytes%n",
+                serializedCookie.getValue().length(), encodedCookie.getValue().length());
+    }
+
+    @Benchmark
+    public String serializationEncode() {
+        return serialize(request);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest serializationDecode() {
+        return (OAuth2AuthorizationRequest) SerializationUtils.deserialize(
+                Base64.getUrlDecoder().decode(serializedCookie.getValue()));
+    }
+
+    @Benchmark
+    public String codecEncode() {
+        return CookieUtil.encode(request, codec);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest codecDecode() {
+        return CookieUtil.decode(encodedCookie, codec);
+    }
+
+    // 비교 기준: 코덱 도입 전 CookieUtil이 쓰던 Java 직렬화 + Base64 방식
+    private static String serialize(Object value) {
+        return Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(value));
+    }
+}
@@ -0,0 +1,52 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// 글 목록 응답(GET /api/articles) JSON 직렬화 비용, 목록 크기별
+// ObjectMapper는 스프링 부트 기본값과 같은 Jackson2ObjectMapperBuilder 설정을 쓴다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleListSerializationBenchmark {
+
+    @Param({"10", "50", "500", "5000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter pageWriter;
+    private CursorPage<ArticleListViewResponse> page;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        page = new CursorPage<>(BenchmarkArticles.summaries(size), "next", null)
+                .map(ArticleListViewResponse::new);
+        pageWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructParametricType(CursorPage.class, ArticleListViewResponse.class));
+    }
+
+    // 컨트롤러 응답처럼 공유 ObjectMapper 하나로 직렬화, 호출마다 실제 타입으로 직렬화기를 찾는다
+    @Benchmark
+    public byte[] objectMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    // 같은 ObjectMapper에서 제네릭 타입을 미리 고정한 ObjectWriter 재사용
+    @Benchmark
+    public byte[] objectWriter() throws JsonProcessingException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,56 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import me.shinsunyoung.springbootdeveloper.repository.ArticleSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 조회 결과(프로젝션, 캐시 스냅샷)를 응답 DTO로 옮기는 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArticleMappingBenchmark {
+
+    @Param({"10", "50", "500"})
+    private int size;
+
+    private List<ArticleSummary> summaries;
+    private ArticleDetail detail;
+
+    @Setup
+    public void setup() {
+        summaries = BenchmarkArticles.summaries(size);
+        detail = new ArticleDetail(1L, "제목", "내용".repeat(500), "user@gmail.com",
+                LocalDateTime.now(), LocalDateTime.now(), 3);
+    }
+
+    @Benchmark
+    public ArticleResponse articleResponse() {
+        return new ArticleResponse(detail, 42);
+    }
+
+    @Benchmark
+    public List<ArticleListViewResponse> articleListViewResponses() {
+        List<ArticleListViewResponse> responses = new ArrayList<>(summaries.size());
+        for (ArticleSummary summary : summaries) {
+            responses.add(new ArticleListViewResponse(summary));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public CursorPage<ArticleListViewResponse> articleListViewPage() {
+        return new CursorPage<>(summaries, null, null)
+                .map(ArticleListViewResponse::new);
+    }
+}
@@ -0,0 +1,53 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import me.shinsunyoung.springbootdeveloper.repository.ArticleSummary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크용 글 요약 데이터 (JPA 프로젝션 대신 고정 값)
+final class BenchmarkArticles {
+
+    private BenchmarkArticles() {
+    }
+
+    static List<ArticleSummary> summaries(int size) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<ArticleSummary> summaries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            summaries.add(new Summary((long) i, "제목 " + i, "user" + (i % 10) + "@gmail.com",
+                    createdAt.minusMinutes(i), "요약 ".repeat(30)));
+        }
+        return summaries;
+    }
+
+    private record Summary(Long id, String title, String author, LocalDateTime createdAt, String excerpt)
+            implements ArticleSummary {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getAuthor() {
+            return author;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public String getExcerpt() {
+            return excerpt;
+        }
+    }
+}
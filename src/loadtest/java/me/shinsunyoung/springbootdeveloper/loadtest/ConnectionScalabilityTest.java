@@ -0,0 +1,53 @@
+package me.shinsunyoung.springbootdeveloper.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Arrays;
+
+// 동시 연결 수를 늘려 가며 블로킹(/api) 엔드포인트와 리액티브(/rx) 엔드포인트의 처리량, p99를 비교
+// 두 URL은 같은 DB 작업을 하는 짝이어야 한다: 한 글의 댓글 조회는 캐시 없이 매번 커넥션을 빌려 쿼리 한 번을 실행한다
+// (bench-data.sql은 글마다 댓글 3개라 /api의 size=50 한 페이지와 /rx 스트림의 첫 페이지가 같은 쿼리로 끝난다)
+// 글 단건(/articles/{id})은 워밍업 뒤 캐시 적중이라 DB를 타지 않고, 목록은 /rx가 전체를 흘려보내 /api 한 페이지와 비교할 수 없다
+// 서버는 로컬 DB 대역(H2 메모리 DB)으로 띄운다: ./gradlew bootRun --args="--spring.profiles.active=bench-local"
+// ./gradlew loadTest -PmainClass=me.shinsunyoung.springbootdeveloper.loadtest.ConnectionScalabilityTest \
+//     --args="http://localhost:8080/api/articles/1/comments?size=50 http://localhost:8080/rx/articles/1/comments <access token> 10,100,500,2000 20"
+public class ConnectionScalabilityTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: ConnectionScalabilityTest <blocking url> <reactive url> <bearer token> "
+                    + "[concurrency levels=10,100,500,2000] [seconds per level=20]");
+            System.exit(1);
+        }
+
+        URI blocking = URI.create(args[0]);
+        URI reactive = URI.create(args[1]);
+        String token = args[2];
+        int[] levels = Arrays.stream((args.length > 3 ? args[3] : "10,100,500,2000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = Duration.ofSeconds(args.length > 4 ? Long.parseLong(args[4]) : 20);
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest blockingRequest = LoadTest.request(blocking, token);
+        HttpRequest reactiveRequest = LoadTest.request(reactive, token);
+
+        // 워밍업
+        LoadTest.run(client, blockingRequest, levels[0], Duration.ofSeconds(5));
+        LoadTest.run(client, reactiveRequest, levels[0], Duration.ofSeconds(5));
+
+        System.out.printf("%-10s %12s %12s %8s %12s %12s %8s%n",
+                "conns", "api req/s", "api p99 ms", "api err", "rx req/s", "rx p99 ms", "rx err");
+        for (int concurrency : levels) {
+            LoadTest.Result api = LoadTest.run(client, blockingRequest, concurrency, duration);
+            LoadTest.Result rx = LoadTest.run(client, reactiveRequest, concurrency, duration);
+            System.out.printf("%-10d %12.1f %12.2f %8d %12.1f %12.2f %8d%n", concurrency,
+                    api.throughput(duration), api.percentile(0.99), api.getErrors(),
+                    rx.throughput(duration), rx.percentile(0.99), rx.getErrors());
+        }
+    }
+}
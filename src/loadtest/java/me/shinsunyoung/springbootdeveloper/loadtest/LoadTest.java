@@ -0,0 +1,124 @@
+package me.shinsunyoung.springbootdeveloper.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 동시 사용자 수를 고정한 닫힌 부하 테스트 (처리량, p50/p99 지연 시간 측정)
+// 가상 스레드 모드 비교: spring.threads.virtual.enabled=false / true 로 각각 서버를 띄우고 같은 인자로 실행
+// ./gradlew loadTest --args="http://localhost:8080/api/articles 200 30 <access token>"
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("usage: LoadTest <url> [concurrency=100] [seconds=30] [bearer token]");
+            System.exit(1);
+        }
+
+        URI uri = URI.create(args[0]);
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        String token = args.length > 3 ? args[3] : null;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = request(uri, token);
+
+        // 워밍업: JIT, 커넥션 풀, 캐시를 채운다
+        run(client, request, concurrency, Duration.ofSeconds(5));
+        Result result = run(client, request, concurrency, duration);
+        result.print(uri, concurrency, duration);
+    }
+
+    static HttpRequest request(URI uri, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> workers = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+
+            List<long[]> results = new ArrayList<>();
+            for (Future<long[]> worker : workers) {
+                results.add(worker.get());
+            }
+            return new Result(results, errors.get());
+        }
+    }
+
+    static class Result {
+        private final long[] latencies;
+        private final long errors;
+
+        Result(List<long[]> perWorker, long errors) {
+            this.latencies = perWorker.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            this.errors = errors;
+        }
+
+        long getErrors() {
+            return errors;
+        }
+
+        double throughput(Duration duration) {
+            return latencies.length / (double) duration.toSeconds();
+        }
+
+        void print(URI uri, int concurrency, Duration duration) {
+            System.out.printf("url=%s concurrency=%d duration=%ds%n", uri, concurrency, duration.toSeconds());
+            System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                    latencies.length, errors, throughput(duration));
+            System.out.printf("p50=%.2fms p99=%.2fms max=%.2fms%n",
+                    percentile(0.50), percentile(0.99), percentile(1.0));
+        }
+
+        double percentile(double p) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
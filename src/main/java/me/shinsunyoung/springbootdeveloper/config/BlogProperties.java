@@ -0,0 +1,181 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("blog")
+public class BlogProperties {
+
+    private Pagination pagination = new Pagination();
+    private Cache cache = new Cache();
+    private Bulk bulk = new Bulk();
+    private Views views = new Views();
+    private Trending trending = new Trending();
+    private Datasource datasource = new Datasource();
+    private RefreshToken refreshToken = new RefreshToken();
+    private Revocation revocation = new Revocation();
+    private Password password = new Password();
+    private Cookie cookie = new Cookie();
+    private RateLimit rateLimit = new RateLimit();
+    private VirtualThreads virtualThreads = new VirtualThreads();
+    private Diagnostics diagnostics = new Diagnostics();
+    private Export export = new Export();
+
+    // 글 목록, 댓글 페이지 크기 설정
+    @Setter
+    @Getter
+    public static class Pagination {
+        private int defaultSize = 10;
+        private int maxSize = 50;
+        private int commentSize = 20;
+    }
+
+    // 글 상세 캐시 설정
+    @Setter
+    @Getter
+    public static class Cache {
+        private long maximumSize = 10_000;
+        private Duration timeToLive = Duration.ofMinutes(10);
+    }
+
+    // 글 대량 등록 설정
+    @Setter
+    @Getter
+    public static class Bulk {
+        private int batchSize = 500; // 한 트랜잭션에서 저장하고 영속성 컨텍스트를 비우는 단위
+    }
+
+    // 조회수 write-behind 설정
+    @Setter
+    @Getter
+    public static class Views {
+        private Duration flushInterval = Duration.ofSeconds(5); // 장애 시 최대 유실 구간
+        private Duration idleTimeout = Duration.ofMinutes(10);  // 이 기간 조회가 없던 글의 카운터는 메모리에서 내린다
+    }
+
+    // 인기 글 집계 설정
+    @Setter
+    @Getter
+    public static class Trending {
+        private int capacity = 100; // 시간 버킷마다 추적하는 최대 글 수
+        private Duration refreshInterval = Duration.ofSeconds(10); // 상위 K 스냅샷 재계산 주기
+    }
+
+    // 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 설정
+    @Setter
+    @Getter
+    public static class Datasource {
+        private boolean routingEnabled = false;
+        private List<Replica> replicas = new ArrayList<>();
+        private Duration healthCheckInterval = Duration.ofSeconds(10);
+        private Duration readYourWrites = Duration.ofSeconds(5); // 쓰기 직후 이 시간 동안은 같은 사용자의 읽기도 primary로
+
+        @Setter
+        @Getter
+        public static class Replica {
+            private String url;
+            private String username;
+            private String password;
+            private int maximumPoolSize = 10;
+        }
+    }
+
+    // 리프레시 토큰 저장소 설정
+    @Setter
+    @Getter
+    public static class RefreshToken {
+        private String store = "jpa"; // jpa: DB 테이블, memory: 단일 인스턴스용 메모리 저장소 + 스냅샷
+        private String snapshotPath = "./build/refresh-tokens.snapshot";
+        private Duration snapshotInterval = Duration.ofSeconds(30);
+        private Duration sweepInterval = Duration.ofMinutes(10); // 만료 토큰 삭제 주기
+        private int sweepBatchSize = 1000; // 삭제 쿼리 한 번에 지우는 최대 행 수
+        private Duration reuseGracePeriod = Duration.ofSeconds(10); // 교체 직후 직전 토큰을 동시 요청으로 허용하는 기간
+    }
+
+    // 액세스 토큰 폐기 목록 설정
+    @Setter
+    @Getter
+    public static class Revocation {
+        private long expectedPerHour = 10_000; // 만료 시각 1시간 버킷당 예상 폐기 수, Bloom 필터 크기 결정
+        private double falsePositiveRate = 0.01; // 폐기되지 않은 토큰이 DB 조회로 넘어가는 비율
+        private Duration refreshInterval = Duration.ofSeconds(5); // 다른 인스턴스의 폐기를 반영하는 주기
+        private Duration sweepInterval = Duration.ofMinutes(10); // 만료된 폐기 행 삭제 주기
+        private int sweepBatchSize = 1000;
+    }
+
+    // 비밀번호 해시 설정
+    @Setter
+    @Getter
+    public static class Password {
+        private Duration targetHashTime = Duration.ofMillis(250); // 기동 시 이 시간에 맞춰 BCrypt 비용을 정한다
+        private int minStrength = 10;
+        private int maxStrength = 14;
+        private int threads = 0; // 0이면 CPU 코어 수의 절반
+        private int queueCapacity = 64; // 넘치면 503
+    }
+
+    // 쿠키 설정
+    @Setter
+    @Getter
+    public static class Cookie {
+        private String secret; // OAuth2 인가 요청 쿠키의 HMAC 키 (Base64), 비어 있으면 기동 시 임의 생성
+    }
+
+    // 쓰기 API 사용자별 요청 제한 설정
+    @Setter
+    @Getter
+    public static class RateLimit {
+        private boolean enabled = true;
+        private Duration idleTimeout = Duration.ofMinutes(10); // 이 시간 동안 요청이 없는 버킷은 제거
+        private long maximumBuckets = 100_000;
+        private List<Route> routes = new ArrayList<>();
+
+        @Setter
+        @Getter
+        public static class Route {
+            private String name;
+            private String method; // 비어 있으면 모든 메서드
+            private String path;   // PathPattern 문법 (/api/articles/{id})
+            private long capacity; // 연속으로 허용하는 최대 요청 수
+            private double refillPerSecond; // 초당 충전되는 요청 수
+        }
+    }
+
+    // 가상 스레드 모드(spring.threads.virtual.enabled=true) 설정
+    @Setter
+    @Getter
+    public static class VirtualThreads {
+        private int maxConcurrentConnections = 10; // 커넥션 풀 최대 크기(복제본 라우팅 시 primary 풀 크기) 이하로
+        private Duration connectionAcquireTimeout = Duration.ofSeconds(30);
+        private Duration pinnedThreshold = Duration.ofMillis(20); // 이보다 오래 고정된 경우만 기록
+    }
+
+    // 요청 구간별 지연 시간 계측 (/actuator/diagnostics)
+    @Setter
+    @Getter
+    public static class Diagnostics {
+        private boolean enabled = true;
+        private int maxRoutes = 200; // 넘으면 "other" 하나로 묶는다
+        private Duration highestTrackableLatency = Duration.ofMinutes(1);
+        private int significantDigits = 2; // HDR 히스토그램 정밀도 (2: 1% 오차)
+        private Duration slowQueryThreshold = Duration.ofMillis(200); // 넘으면 쿼리 모양을 로그로 남긴다
+        private int repeatedQueryThreshold = 10; // 한 요청에서 같은 모양이 이만큼 반복되면 N+1 의심
+        private int maxFingerprints = 1000;
+    }
+
+    // 전체 글 NDJSON 내보내기 (GET /api/articles/export)
+    @Setter
+    @Getter
+    public static class Export {
+        private Duration timeout = Duration.ofHours(1); // 이 요청에만 적용하는 비동기 타임아웃
+    }
+}
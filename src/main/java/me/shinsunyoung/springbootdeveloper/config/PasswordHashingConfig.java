@@ -0,0 +1,101 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 비밀번호 해시 전용 설정
+// BCrypt 비용은 기동 시 목표 해시 시간에 맞춰 정하고, 해시는 요청 스레드가 아닌 크기가 제한된 전용 풀에서 수행한다
+@Slf4j
+@RequiredArgsConstructor
+@Configuration
+public class PasswordHashingConfig {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final BlogProperties blogProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public BCryptPasswordEncoder bCryptPasswordEncoder() {
+        BlogProperties.Password password = blogProperties.getPassword();
+        int strength = calibrateStrength(password.getTargetHashTime(), password.getMinStrength(), password.getMaxStrength());
+        log.info("Using BCrypt strength {} (target hash time {})", strength, password.getTargetHashTime());
+
+        Gauge.builder("password.hashing.strength", () -> strength)
+                .register(meterRegistry);
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // 큐가 가득 차면 AbortPolicy로 즉시 거절 (호출 쪽에서 503으로 응답)
+    @Bean
+    public ThreadPoolExecutor passwordHashingExecutor() {
+        BlogProperties.Password password = blogProperties.getPassword();
+        int threads = password.getThreads() > 0
+                ? password.getThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(password.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // executor.queued(대기 작업 수), executor.active 등
+        new ExecutorServiceMetrics(executor, "passwordHashing", Collections.emptyList()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    // 해시 풀도 Executor 빈이라 스프링 부트의 applicationTaskExecutor 자동 구성이 빠지므로 같은 방식으로 직접 등록한다
+    // (spring.task.execution.*, spring.threads.virtual.enabled 설정이 그대로 적용되고 MVC 비동기 처리도 이 실행기를 쓴다)
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder,
+                                                     SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder,
+                                                     Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return simpleAsyncTaskExecutorBuilder.build();
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
+
+    // 비용이 1 오를 때마다 해시 시간이 두 배가 되므로 최소 비용에서 한 번 측정해 목표 이하인 최대 비용을 고른다
+    static int calibrateStrength(Duration targetHashTime, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode(CALIBRATION_PASSWORD); // 워밍업
+
+        long start = System.nanoTime();
+        encoder.encode(CALIBRATION_PASSWORD);
+        long nanos = System.nanoTime() - start;
+
+        int strength = minStrength;
+        while (strength < maxStrength && nanos * 2 <= targetHashTime.toNanos()) {
+            nanos *= 2;
+            strength++;
+        }
+        return strength;
+    }
+}
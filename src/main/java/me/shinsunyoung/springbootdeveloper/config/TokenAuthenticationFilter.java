@@ -1,24 +1,49 @@
 package me.shinsunyoung.springbootdeveloper.config;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import me.shinsunyoung.springbootdeveloper.config.diagnostics.RequestPhase;
+import me.shinsunyoung.springbootdeveloper.config.diagnostics.RequestTrace;
 import me.shinsunyoung.springbootdeveloper.config.jwt.TokenProvider;
+import me.shinsunyoung.springbootdeveloper.config.jwt.VerifiedTokenCache;
+import me.shinsunyoung.springbootdeveloper.service.TokenRevocationService;
+import me.shinsunyoung.springbootdeveloper.util.TokenDigestUtil;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.security.Security;
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
     private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
     private final static String HEADER_AUTHORIZATION = "Authorization";
     private final static String TOKEN_PREFIX = "Bearer ";
 
+    public TokenAuthenticationFilter(TokenProvider tokenProvider, VerifiedTokenCache verifiedTokenCache,
+                                     TokenRevocationService tokenRevocationService, MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.authenticatedTimer = authTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = authTimer(meterRegistry, "rejected");
+    }
+
+    // 인증이 필요 없는 경로는 토큰 추출과 파싱을 모두 건너뜀
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !TokenAuthenticationRoutes.requiresAuthentication(request);
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -27,9 +52,22 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
         String authorizationHeader = request.getHeader(HEADER_AUTHORIZATION);
         String token = getAccessToken(authorizationHeader);
-        if(tokenProvider.validToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if(token != null) {
+            long start = System.nanoTime();
+            String digest = TokenDigestUtil.sha256(token);
+            // 토큰 파싱과 서명 검증은 한 번만 (이미 검증한 토큰이면 캐시에서 클레임을 가져온다)
+            Claims claims = verifiedTokenCache.getVerifiedClaims(token, digest);
+            // 폐기 여부는 대부분 Bloom 필터만으로 판정 (양성일 때만 DB 조회)
+            if(claims != null && tokenRevocationService.isRevoked(digest, claims.getExpiration())) {
+                claims = null;
+            }
+            if(claims != null) {
+                Authentication authentication = tokenProvider.getAuthentication(claims, token);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+            long elapsed = System.nanoTime() - start;
+            (claims != null ? authenticatedTimer : rejectedTimer).record(elapsed, TimeUnit.NANOSECONDS);
+            RequestTrace.record(RequestPhase.JWT, elapsed);
         }
 
         filterChain.doFilter(request, response);
@@ -42,4 +80,12 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
+    // 요청당 토큰 인증에 걸린 시간 (auth.token.latency{result=authenticated|rejected})
+    private static Timer authTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.token.latency")
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
 }
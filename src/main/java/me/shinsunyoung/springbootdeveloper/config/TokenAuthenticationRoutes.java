@@ -0,0 +1,57 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// 토큰 인증이 필요한 요청인지 분류 (WebOAuthSecurityConfig의 인가 규칙과 같은 기준)
+// 매 요청 패턴 매칭 대신 미리 정한 접두사/경로 비교만 하므로 할당이 없다
+// 페이지 요청(/articles, /login 등)은 Authorization 헤더를 보내지 않으므로 토큰 추출부터 건너뛴다
+public final class TokenAuthenticationRoutes {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String RX_PREFIX = "/rx/";                    // 읽기 전용 리액티브 API
+    private static final String ACTUATOR_PREFIX = "/actuator/";        // 관리자 전용, health만 공개
+    private static final String HEALTH_PATH = "/actuator/health";
+    private static final String TOKEN_PATH = "/api/token";             // POST, 본문의 리프레시 토큰으로 인증
+    private static final String ARTICLES_PREFIX = "/api/articles/";
+    private static final String RX_ARTICLES_PREFIX = "/rx/articles/";
+    private static final String COMMENTS_SUFFIX = "/comments";         // GET /api/articles/{id}/comments
+
+    private TokenAuthenticationRoutes() {
+    }
+
+    public static boolean requiresAuthentication(HttpServletRequest request) {
+        return requiresAuthentication(request.getMethod(), pathWithinApplication(request));
+    }
+
+    static boolean requiresAuthentication(String method, String path) {
+        if (path.startsWith(ACTUATOR_PREFIX)) {
+            return !path.equals(HEALTH_PATH) && !path.startsWith(HEALTH_PATH + "/");
+        }
+        if (path.startsWith(RX_PREFIX)) {
+            return !("GET".equals(method) && isArticleComments(path, RX_ARTICLES_PREFIX));
+        }
+        if (!path.startsWith(API_PREFIX)) {
+            return false;
+        }
+        if (path.equals(TOKEN_PATH)) {
+            return false;
+        }
+        return !("GET".equals(method) && isArticleComments(path, ARTICLES_PREFIX));
+    }
+
+    // {prefix}{id}/comments, {id}는 한 경로 세그먼트
+    private static boolean isArticleComments(String path, String articlesPrefix) {
+        if (!path.startsWith(articlesPrefix) || !path.endsWith(COMMENTS_SUFFIX)) {
+            return false;
+        }
+        int idStart = articlesPrefix.length();
+        int idEnd = path.length() - COMMENTS_SUFFIX.length();
+        return idEnd > idStart && path.indexOf('/', idStart) == idEnd;
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+    }
+}
@@ -0,0 +1,70 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.shinsunyoung.springbootdeveloper.config.datasource.ConnectionLimitingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+// spring.threads.virtual.enabled=true 일 때의 추가 구성
+// 요청 처리(Tomcat), @Scheduled, MVC 비동기 작업(StreamingResponseBody 등)은 스프링 부트가 가상 스레드로 바꾼다
+// CPU 작업인 비밀번호 해시 풀은 플랫폼 스레드로 유지한다
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Configuration
+public class VirtualThreadConfig {
+
+    // JPA, JdbcTemplate이 쓰는 dataSource 빈 앞에 동시 커넥션 제한을 둔다
+    // 커넥션 풀에 가장 가까이 감싸도록 가장 먼저 적용한다 (계측 래퍼는 그 바깥에서 허가 대기 시간까지 잰다)
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(ObjectProvider<BlogProperties> blogProperties,
+                                                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConnectionLimitingDataSourcePostProcessor(blogProperties, meterRegistry);
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(BlogProperties blogProperties, MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(blogProperties.getVirtualThreads().getPinnedThreshold(), meterRegistry);
+    }
+
+    private static class ConnectionLimitingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<BlogProperties> blogProperties;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        private ConnectionLimitingDataSourcePostProcessor(ObjectProvider<BlogProperties> blogProperties,
+                                                          ObjectProvider<MeterRegistry> meterRegistry) {
+            this.blogProperties = blogProperties;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                    || bean instanceof ConnectionLimitingDataSource) {
+                return bean;
+            }
+
+            BlogProperties.VirtualThreads properties = blogProperties.getObject().getVirtualThreads();
+            ConnectionLimitingDataSource limited = new ConnectionLimitingDataSource(dataSource,
+                    properties.getMaxConcurrentConnections(), properties.getConnectionAcquireTimeout());
+
+            MeterRegistry registry = meterRegistry.getObject();
+            Gauge.builder("jdbc.connections.permits.available", limited, ConnectionLimitingDataSource::getAvailablePermits)
+                    .register(registry);
+            Gauge.builder("jdbc.connections.permits.waiting", limited, ConnectionLimitingDataSource::getWaitingThreads)
+                    .register(registry);
+            return limited;
+        }
+    }
+}
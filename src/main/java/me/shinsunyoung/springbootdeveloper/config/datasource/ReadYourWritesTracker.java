@@ -0,0 +1,68 @@
+package me.shinsunyoung.springbootdeveloper.config.datasource;
+
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 최근에 쓰기를 한 사용자를 기억해 두고, 복제 지연 동안 그 사용자의 읽기는 primary로 보낸다
+public class ReadYourWritesTracker {
+
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private final long windowMillis;
+
+    public ReadYourWritesTracker(BlogProperties blogProperties) {
+        this.windowMillis = blogProperties.getDatasource().getReadYourWrites().toMillis();
+    }
+
+    // 쓰기 트랜잭션이 커밋된 시점부터 창을 센다 (롤백되면 고정하지 않는다)
+    public void markWrite() {
+        String user = currentUser();
+        if (user == null || windowMillis <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pin(user);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin(user);
+            }
+        });
+    }
+
+    private void pin(String user) {
+        pinnedUntil.put(user, System.currentTimeMillis() + windowMillis);
+    }
+
+    public boolean isPinned() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(user);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until <= now);
+    }
+
+    // 익명 요청(토큰 재발급, 회원 가입 등)은 모두 같은 이름이므로 고정 대상에서 뺀다
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,91 @@
+package me.shinsunyoung.springbootdeveloper.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// blog.datasource.routing-enabled=true 일 때 primary + 복제본 라우팅 DataSource를 구성한다
+@ConditionalOnProperty(prefix = "blog.datasource", name = "routing-enabled", havingValue = "true")
+@Configuration
+public class ReplicationDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(BlogProperties blogProperties) {
+        return new ReadYourWritesTracker(blogProperties);
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                          DataSourceProperties properties,
+                                                          BlogProperties blogProperties,
+                                                          ReadYourWritesTracker readYourWritesTracker) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<BlogProperties.Datasource.Replica> configured = blogProperties.getDatasource().getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            BlogProperties.Datasource.Replica replica = configured.get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            replicas.put(dataSource.getPoolName(), dataSource);
+        }
+
+        return new ReplicationRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker);
+    }
+
+    // JPA, JdbcTemplate이 사용하는 DataSource, 실제 커넥션은 첫 SQL 실행 시점에 라우팅해서 얻는다
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicationRoutingDataSource routingDataSource,
+                                                     ReadYourWritesTracker readYourWritesTracker) {
+        return new ReplicaHealthChecker(routingDataSource, readYourWritesTracker);
+    }
+
+    public static class ReplicaHealthChecker {
+        private final ReplicationRoutingDataSource routingDataSource;
+        private final ReadYourWritesTracker readYourWritesTracker;
+
+        public ReplicaHealthChecker(ReplicationRoutingDataSource routingDataSource,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+            this.routingDataSource = routingDataSource;
+            this.readYourWritesTracker = readYourWritesTracker;
+        }
+
+        @Scheduled(fixedDelayString = "#{@blogProperties.datasource.healthCheckInterval.toMillis()}")
+        public void check() {
+            routingDataSource.checkReplicas();
+            readYourWritesTracker.evictExpired();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package me.shinsunyoung.springbootdeveloper.config.datasource;
+
+import java.util.function.Supplier;
+
+// 읽기 전용 트랜잭션이라도 primary에서 읽어야 하는 구간을 표시한다 (라우팅을 쓰지 않으면 영향 없음)
+public class RoutingHint {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    public static <T> T usePrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            } else {
+                PRIMARY.set(previous);
+            }
+        }
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY.get());
+    }
+}
@@ -0,0 +1,107 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// JDBC 실행 시간과 SQL을 QueryStatistics와 현재 요청의 RequestTrace에 기록하는 DataSource 프록시
+// show-sql처럼 쿼리마다 출력하지 않고 execute* 호출 시간만 잰다
+public class DiagnosticsDataSource extends DelegatingDataSource {
+
+    private final QueryStatistics queryStatistics;
+
+    public DiagnosticsDataSource(DataSource targetDataSource, QueryStatistics queryStatistics) {
+        super(targetDataSource);
+        this.queryStatistics = queryStatistics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return proxy(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        return proxy(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(DiagnosticsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    // 만들어지는 Statement를 감싸 실행 시간을 잰다
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = DiagnosticsDataSource.invoke(connection, method, args);
+            // prepareStatement(sql, ...), prepareCall(sql, ...)은 첫 인자가 SQL
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, statement, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement, new StatementHandler(statement, null));
+            }
+            return result;
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private String sql;
+
+        StatementHandler(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                // Statement.addBatch(sql)는 마지막 SQL로 배치를 대표한다
+                if ("addBatch".equals(name) && args != null && args[0] instanceof String batchSql) {
+                    sql = batchSql;
+                }
+                return DiagnosticsDataSource.invoke(statement, method, args);
+            }
+
+            // Statement.execute(sql, ...)은 첫 인자가 SQL
+            String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+            long start = System.nanoTime();
+            try {
+                return DiagnosticsDataSource.invoke(statement, method, args);
+            } finally {
+                queryStatistics.record(executed, System.nanoTime() - start, name.endsWith("Batch"));
+            }
+        }
+    }
+}
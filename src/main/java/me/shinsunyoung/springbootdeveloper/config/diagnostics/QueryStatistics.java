@@ -0,0 +1,125 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import me.shinsunyoung.springbootdeveloper.util.SqlFingerprint;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// show-sql 대신 쓰는 SQL 점검기
+// 평소에는 아무것도 출력하지 않고, 임계값을 넘은 느린 쿼리와 한 요청 안에서 같은 모양이 반복된 쿼리(N+1)만 로그로 남긴다
+// 쿼리 모양(fingerprint)별 실행 횟수와 총 시간을 모아 /actuator/queries 에서 순위로 보여 준다
+@Slf4j
+public class QueryStatistics {
+
+    static final String OTHER_FINGERPRINT = "other";
+
+    private final Map<String, FingerprintStats> fingerprints = new ConcurrentHashMap<>();
+    // 같은 SQL 문자열의 정규화 결과 재사용 (Hibernate는 매번 같은 PreparedStatement SQL을 만든다)
+    private final Cache<String, String> normalized;
+    private final long slowQueryNanos;
+    private final int repeatedQueryThreshold;
+    private final int maxFingerprints;
+
+    public QueryStatistics(BlogProperties.Diagnostics properties) {
+        this.slowQueryNanos = properties.getSlowQueryThreshold().toNanos();
+        this.repeatedQueryThreshold = properties.getRepeatedQueryThreshold();
+        this.maxFingerprints = properties.getMaxFingerprints();
+        this.normalized = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxFingerprints() * 4L)
+                .build();
+    }
+
+    void record(String sql, long nanos) {
+        record(sql, nanos, false);
+    }
+
+    // JDBC 실행 한 번마다 호출, batch는 executeBatch로 여러 건을 한 번에 보낸 경우
+    void record(String sql, long nanos, boolean batch) {
+        String fingerprint = sql == null ? OTHER_FINGERPRINT : normalized.get(sql, SqlFingerprint::of);
+        stats(fingerprint).record(nanos);
+        // 배치와 INSERT는 저장할 건수만큼 반복되는 게 정상이라 N+1 반복 횟수에서 뺀다
+        RequestTrace.recordQuery(fingerprint, nanos, !batch && !isInsert(fingerprint));
+
+        if (nanos >= slowQueryNanos) {
+            log.warn("Slow query ({}ms): {}", TimeUnit.NANOSECONDS.toMillis(nanos), fingerprint);
+        }
+    }
+
+    // 요청이 끝나면 같은 모양이 임계값 이상 반복된 쿼리를 N+1 의심으로 기록
+    void inspect(String route, RequestTrace trace) {
+        trace.getQueryCounts().forEach((fingerprint, count) -> {
+            if (count >= repeatedQueryThreshold) {
+                stats(fingerprint).suspectedNPlusOne.increment();
+                log.warn("Possible N+1 in {}: executed {} times: {}", route, count, fingerprint);
+            }
+        });
+    }
+
+    private static boolean isInsert(String fingerprint) {
+        return fingerprint.startsWith("insert ");
+    }
+
+    public List<FingerprintSnapshot> top(int limit) {
+        return fingerprints.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(FingerprintSnapshot::getTotalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        fingerprints.clear();
+    }
+
+    private FingerprintStats stats(String fingerprint) {
+        FingerprintStats stats = fingerprints.get(fingerprint);
+        if (stats != null) {
+            return stats;
+        }
+        // 모양 수가 한도를 넘으면 하나로 묶어 메모리를 제한
+        String key = fingerprints.size() < maxFingerprints ? fingerprint : OTHER_FINGERPRINT;
+        return fingerprints.computeIfAbsent(key, ignored -> new FingerprintStats());
+    }
+
+    private static class FingerprintStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder suspectedNPlusOne = new LongAdder();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        FingerprintSnapshot snapshot(String fingerprint) {
+            long executions = count.sum();
+            double total = totalNanos.sum() / 1_000_000.0;
+            return new FingerprintSnapshot(fingerprint, executions, total,
+                    executions == 0 ? 0 : total / executions, maxNanos.get() / 1_000_000.0, suspectedNPlusOne.sum());
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class FingerprintSnapshot {
+        private final String fingerprint;
+        private final long count;
+        private final double totalMillis;
+        private final double meanMillis;
+        private final double maxMillis;
+        private final long suspectedNPlusOne; // N+1 의심으로 기록된 요청 수
+    }
+}
@@ -0,0 +1,30 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+// GET /actuator/queries?limit=20: 총 실행 시간 순 쿼리 모양 목록
+// DELETE /actuator/queries: 누적값 초기화
+@RequiredArgsConstructor
+@Endpoint(id = "queries")
+public class QueryStatisticsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final QueryStatistics queryStatistics;
+
+    @ReadOperation
+    public List<QueryStatistics.FingerprintSnapshot> top(@Nullable Integer limit) {
+        return queryStatistics.top(limit == null || limit < 1 ? DEFAULT_LIMIT : limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        queryStatistics.reset();
+    }
+}
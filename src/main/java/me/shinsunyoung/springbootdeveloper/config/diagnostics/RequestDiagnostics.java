@@ -0,0 +1,146 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 경로(메서드 + 매핑 패턴)별, 구간별 지연 시간 HDR 히스토그램
+// 요청 스레드는 wait-free인 Recorder에만 기록하고, 조회 시점에 구간 히스토그램을 누적본에 합친다
+public class RequestDiagnostics {
+
+    static final String OTHER_ROUTE = "other";
+
+    private final Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+    private final int maxRoutes;
+    private final long highestTrackableMicros;
+    private final int significantDigits;
+
+    public RequestDiagnostics(BlogProperties.Diagnostics properties) {
+        this.maxRoutes = properties.getMaxRoutes();
+        this.highestTrackableMicros = properties.getHighestTrackableLatency().toNanos() / 1000;
+        this.significantDigits = properties.getSignificantDigits();
+    }
+
+    void record(String route, RequestTrace trace, long totalNanos) {
+        RouteStats stats = routes.get(route);
+        if (stats == null) {
+            // 경로 수가 한도를 넘으면 하나로 묶어 메모리를 제한
+            String key = routes.size() < maxRoutes ? route : OTHER_ROUTE;
+            stats = routes.computeIfAbsent(key, ignored -> new RouteStats());
+        }
+
+        stats.recordLatency(RequestPhase.TOTAL, totalNanos);
+        for (RequestPhase phase : RequestPhase.values()) {
+            long nanos = trace.getNanos(phase);
+            if (phase != RequestPhase.TOTAL && nanos > 0) { // 해당 구간이 없던 요청은 분포에 넣지 않는다
+                stats.recordLatency(phase, nanos);
+            }
+        }
+        stats.queries.recordValue(Math.min(trace.getQueryCount(), highestTrackableMicros));
+    }
+
+    public Map<String, RouteSnapshot> snapshot() {
+        Map<String, RouteSnapshot> snapshot = new TreeMap<>();
+        routes.forEach((route, stats) -> snapshot.put(route, stats.snapshot()));
+        return snapshot;
+    }
+
+    public void reset() {
+        routes.clear();
+    }
+
+    private class RouteStats {
+        private final Map<RequestPhase, Accumulator> phases = new EnumMap<>(RequestPhase.class);
+        private final Accumulator queries = new Accumulator();
+
+        RouteStats() {
+            for (RequestPhase phase : RequestPhase.values()) {
+                phases.put(phase, new Accumulator());
+            }
+        }
+
+        void recordLatency(RequestPhase phase, long nanos) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+            phases.get(phase).recordValue(Math.min(Math.max(micros, 1), highestTrackableMicros));
+        }
+
+        RouteSnapshot snapshot() {
+            Map<String, PhaseSnapshot> phaseSnapshots = new LinkedHashMap<>();
+            phases.forEach((phase, accumulator) -> {
+                Histogram histogram = accumulator.histogram();
+                if (histogram.getTotalCount() > 0) {
+                    phaseSnapshots.put(phase.getValue(), PhaseSnapshot.millis(histogram));
+                }
+            });
+            Histogram queryCounts = queries.histogram();
+            return new RouteSnapshot(queryCounts.getTotalCount(), phaseSnapshots, PhaseSnapshot.counts(queryCounts));
+        }
+    }
+
+    // 기록용 Recorder와 조회 시 합치는 누적 히스토그램
+    private class Accumulator {
+        private final Recorder recorder = new Recorder(highestTrackableMicros, significantDigits);
+        private final Histogram accumulated = new Histogram(highestTrackableMicros, significantDigits);
+        private Histogram interval;
+
+        void recordValue(long value) {
+            recorder.recordValue(value);
+        }
+
+        synchronized Histogram histogram() {
+            interval = recorder.getIntervalHistogram(interval);
+            accumulated.add(interval);
+            return accumulated.copy();
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class RouteSnapshot {
+        private final long count;
+        private final Map<String, PhaseSnapshot> phases; // 밀리초
+        private final PhaseSnapshot queries;             // 요청당 SQL 실행 횟수
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class PhaseSnapshot {
+        private final long count;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+        private final double max;
+        private final double mean;
+
+        static PhaseSnapshot millis(Histogram histogram) {
+            return new PhaseSnapshot(histogram.getTotalCount(),
+                    toMillis(histogram.getValueAtPercentile(50)),
+                    toMillis(histogram.getValueAtPercentile(90)),
+                    toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getMaxValue()),
+                    histogram.getMean() / 1000.0);
+        }
+
+        static PhaseSnapshot counts(Histogram histogram) {
+            return new PhaseSnapshot(histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99),
+                    histogram.getMaxValue(),
+                    histogram.getMean());
+        }
+
+        private static double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// 요청 구간별 지연 시간 계측 구성 (blog.diagnostics.enabled=false 로 끌 수 있다)
+// 요청 경로에서는 System.nanoTime()과 wait-free 히스토그램 기록만 하므로 운영에서도 켜 둔다
+@ConditionalOnProperty(prefix = "blog.diagnostics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Configuration
+public class RequestDiagnosticsConfig implements WebMvcConfigurer {
+
+    @Bean
+    public RequestDiagnostics requestDiagnostics(BlogProperties blogProperties) {
+        return new RequestDiagnostics(blogProperties.getDiagnostics());
+    }
+
+    @Bean
+    public QueryStatistics queryStatistics(BlogProperties blogProperties) {
+        return new QueryStatistics(blogProperties.getDiagnostics());
+    }
+
+    // 보안 필터 체인보다 먼저 실행되어야 security 구간을 잴 수 있다
+    @Bean
+    public FilterRegistrationBean<RequestDiagnosticsFilter> requestDiagnosticsFilter(RequestDiagnostics requestDiagnostics,
+                                                                                      QueryStatistics queryStatistics) {
+        FilterRegistrationBean<RequestDiagnosticsFilter> registration =
+                new FilterRegistrationBean<>(new RequestDiagnosticsFilter(requestDiagnostics, queryStatistics));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public ServiceDiagnosticsAspect serviceDiagnosticsAspect() {
+        return new ServiceDiagnosticsAspect();
+    }
+
+    @Bean
+    public RequestDiagnosticsEndpoint requestDiagnosticsEndpoint(RequestDiagnostics requestDiagnostics) {
+        return new RequestDiagnosticsEndpoint(requestDiagnostics);
+    }
+
+    @Bean
+    public QueryStatisticsEndpoint queryStatisticsEndpoint(QueryStatistics queryStatistics) {
+        return new QueryStatisticsEndpoint(queryStatistics);
+    }
+
+    // JPA, JdbcTemplate이 쓰는 dataSource 빈의 JDBC 호출을 계측
+    // 다른 dataSource 래퍼(가상 스레드 모드의 동시 커넥션 제한)보다 나중에 적용해 가장 바깥에서 잰다
+    @Bean
+    public static BeanPostProcessor diagnosticsDataSourcePostProcessor(ObjectProvider<QueryStatistics> queryStatistics) {
+        return new DiagnosticsDataSourcePostProcessor(queryStatistics);
+    }
+
+    private static class DiagnosticsDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<QueryStatistics> queryStatistics;
+
+        private DiagnosticsDataSourcePostProcessor(ObjectProvider<QueryStatistics> queryStatistics) {
+            this.queryStatistics = queryStatistics;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                    && !(bean instanceof DiagnosticsDataSource)) {
+                return new DiagnosticsDataSource(dataSource, queryStatistics.getObject());
+            }
+            return bean;
+        }
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestDiagnosticsInterceptor());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter converter) {
+                converters.set(i, new SerializationTimingMessageConverter(converter));
+            }
+        }
+    }
+}
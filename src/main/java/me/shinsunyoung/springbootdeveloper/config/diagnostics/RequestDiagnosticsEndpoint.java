@@ -0,0 +1,27 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+// GET /actuator/diagnostics: 경로별 구간 지연 시간(ms)과 요청당 SQL 횟수의 p50/p90/p99/max
+// DELETE /actuator/diagnostics: 누적값 초기화
+@RequiredArgsConstructor
+@Endpoint(id = "diagnostics")
+public class RequestDiagnosticsEndpoint {
+
+    private final RequestDiagnostics requestDiagnostics;
+
+    @ReadOperation
+    public Map<String, RequestDiagnostics.RouteSnapshot> routes() {
+        return requestDiagnostics.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        requestDiagnostics.reset();
+    }
+}
@@ -0,0 +1,53 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 가장 먼저 실행되는 필터, 요청 단위 RequestTrace를 열고 끝나면 경로별 히스토그램에 기록
+public class RequestDiagnosticsFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED_ROUTE = "unmatched";
+
+    private final RequestDiagnostics requestDiagnostics;
+    private final QueryStatistics queryStatistics;
+
+    public RequestDiagnosticsFilter(RequestDiagnostics requestDiagnostics, QueryStatistics queryStatistics) {
+        this.requestDiagnostics = requestDiagnostics;
+        this.queryStatistics = queryStatistics;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        RequestTrace trace = RequestTrace.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTrace.clear();
+            record(request, trace, start);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestTrace trace, long start) {
+        long end = System.nanoTime();
+        if (trace.isHandlerStarted()) {
+            trace.addNanos(RequestPhase.SECURITY, trace.getHandlerStart() - start);
+        }
+
+        // 경로 변수 대신 매핑 패턴으로 묶어 경로 수를 제한
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern == null ? UNMATCHED_ROUTE : request.getMethod() + " " + pattern;
+        requestDiagnostics.record(route, trace, end - start);
+        queryStatistics.inspect(route, trace);
+    }
+}
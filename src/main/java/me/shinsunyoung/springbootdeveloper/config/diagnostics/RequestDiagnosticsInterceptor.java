@@ -0,0 +1,38 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+// 핸들러 시작 시점(보안 구간의 끝)과 뷰 렌더링 시간을 기록
+public class RequestDiagnosticsInterceptor implements HandlerInterceptor {
+
+    private static final String VIEW_START_ATTRIBUTE = RequestDiagnosticsInterceptor.class.getName() + ".viewStart";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.markHandlerStart(System.nanoTime());
+        }
+        return true;
+    }
+
+    // @ResponseBody 응답은 이미 본문을 쓴 뒤라 ModelAndView가 없다
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView != null && modelAndView.hasView()) {
+            request.setAttribute(VIEW_START_ATTRIBUTE, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(VIEW_START_ATTRIBUTE) instanceof Long viewStart) {
+            RequestTrace.record(RequestPhase.VIEW, System.nanoTime() - viewStart);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 요청 처리 구간, 구간끼리 겹칠 수 있다 (security는 jwt를, service는 sql 대부분을 포함)
+@RequiredArgsConstructor
+@Getter
+public enum RequestPhase {
+    TOTAL("total"),                 // 필터 진입부터 응답 완료까지
+    SECURITY("security"),           // 핸들러 호출 전까지 (보안 필터 체인)
+    JWT("jwt"),                     // 액세스 토큰 검증
+    SERVICE("service"),             // 가장 바깥 @Service 메서드
+    SQL("sql"),                     // JDBC 실행 시간 합계
+    VIEW("view"),                   // Thymeleaf 렌더링
+    SERIALIZATION("serialization"); // JSON 직렬화
+
+    private final String value;
+}
@@ -0,0 +1,99 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 요청 하나의 구간별 소요 시간을 모으는 스레드 로컬 상태
+// 요청 스레드에서만 기록하므로 비동기 응답(StreamingResponseBody, Flux)은 동기 구간만 반영된다
+public final class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final long[] phaseNanos = new long[RequestPhase.values().length];
+    private int queryCount;
+    private Map<String, Integer> queryCounts; // 쿼리 모양별 실행 횟수, 쿼리가 있을 때만 만든다
+    private int serviceDepth;
+    private boolean handlerStarted;
+    private long handlerStart;
+
+    private RequestTrace() {
+    }
+
+    static RequestTrace start() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    // 진행 중인 요청이 없으면(스케줄러, 비동기 스레드) null
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    public static void record(RequestPhase phase, long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.addNanos(phase, nanos);
+        }
+    }
+
+    // repeatable이 false면 시간과 총 횟수만 더하고 N+1 판단용 모양별 횟수에는 넣지 않는다
+    static void recordQuery(String fingerprint, long nanos, boolean repeatable) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.phaseNanos[RequestPhase.SQL.ordinal()] += nanos;
+            trace.queryCount++;
+            if (!repeatable) {
+                return;
+            }
+            if (trace.queryCounts == null) {
+                trace.queryCounts = new HashMap<>();
+            }
+            trace.queryCounts.merge(fingerprint, 1, Integer::sum);
+        }
+    }
+
+    // 중첩된 @Service 호출은 가장 바깥 호출만 기록한다
+    boolean enterService() {
+        return serviceDepth++ == 0;
+    }
+
+    void exitService() {
+        serviceDepth--;
+    }
+
+    void markHandlerStart(long now) {
+        if (!handlerStarted) {
+            handlerStarted = true;
+            handlerStart = now;
+        }
+    }
+
+    boolean isHandlerStarted() {
+        return handlerStarted;
+    }
+
+    long getHandlerStart() {
+        return handlerStart;
+    }
+
+    void addNanos(RequestPhase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    long getNanos(RequestPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    Map<String, Integer> getQueryCounts() {
+        return queryCounts == null ? Map.of() : queryCounts;
+    }
+}
@@ -0,0 +1,28 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+// 기본 Jackson 컨버터를 대신해 응답 본문 JSON 직렬화 시간을 serialization 구간으로 기록
+public class SerializationTimingMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public SerializationTimingMessageConverter(MappingJackson2HttpMessageConverter converter) {
+        super(converter.getObjectMapper());
+        setSupportedMediaTypes(converter.getSupportedMediaTypes());
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTrace.record(RequestPhase.SERIALIZATION, System.nanoTime() - start);
+        }
+    }
+}
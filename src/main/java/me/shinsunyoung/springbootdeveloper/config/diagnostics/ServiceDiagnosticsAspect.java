@@ -0,0 +1,29 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+// @Service 빈의 메서드 실행 시간을 service 구간으로 기록 (요청 중일 때만)
+@Aspect
+public class ServiceDiagnosticsAspect {
+
+    @Around("within(@org.springframework.stereotype.Service *)")
+    public Object recordService(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return joinPoint.proceed();
+        }
+
+        boolean outermost = trace.enterService();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            trace.exitService();
+            if (outermost) {
+                trace.addNanos(RequestPhase.SERVICE, System.nanoTime() - start);
+            }
+        }
+    }
+}
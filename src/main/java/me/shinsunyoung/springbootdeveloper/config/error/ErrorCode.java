@@ -9,7 +9,12 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "E2", "잘못된 HTTP 메서드를 호출했습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E3", "서버 에러가 발생했습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "E4", "존재하지 않는 엔터티입니다."),
-    ARTICLE_NOT_FOUND(HttpStatus.NOT_FOUND, "A1", "존재하지 않는 아티클입니다.");
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "E5", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "E6", "요청 한도를 초과했습니다. 잠시 후 다시 시도해 주세요."),
+    ARTICLE_NOT_FOUND(HttpStatus.NOT_FOUND, "A1", "존재하지 않는 아티클입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "P1", "올바르지 않은 페이지 커서입니다."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "T1", "유효하지 않은 리프레시 토큰입니다."),
+    INVALID_SIGNING_KEY(HttpStatus.BAD_REQUEST, "T2", "추가하거나 제거할 수 없는 서명 키입니다.");
 
     private final String message;
     private final String code;
@@ -0,0 +1,9 @@
+package me.shinsunyoung.springbootdeveloper.config.error.exception;
+
+import me.shinsunyoung.springbootdeveloper.config.error.ErrorCode;
+
+public class InvalidCursorException extends BusinessBaseException {
+    public InvalidCursorException() {
+        super(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,9 @@
+package me.shinsunyoung.springbootdeveloper.config.error.exception;
+
+import me.shinsunyoung.springbootdeveloper.config.error.ErrorCode;
+
+public class InvalidRefreshTokenException extends BusinessBaseException {
+    public InvalidRefreshTokenException() {
+        super(ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+}
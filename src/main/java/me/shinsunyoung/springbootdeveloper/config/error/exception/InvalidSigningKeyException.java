@@ -0,0 +1,9 @@
+package me.shinsunyoung.springbootdeveloper.config.error.exception;
+
+import me.shinsunyoung.springbootdeveloper.config.error.ErrorCode;
+
+public class InvalidSigningKeyException extends BusinessBaseException {
+    public InvalidSigningKeyException() {
+        super(ErrorCode.INVALID_SIGNING_KEY);
+    }
+}
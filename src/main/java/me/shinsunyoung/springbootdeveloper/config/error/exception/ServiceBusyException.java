@@ -0,0 +1,9 @@
+package me.shinsunyoung.springbootdeveloper.config.error.exception;
+
+import me.shinsunyoung.springbootdeveloper.config.error.ErrorCode;
+
+public class ServiceBusyException extends BusinessBaseException {
+    public ServiceBusyException() {
+        super(ErrorCode.SERVICE_BUSY);
+    }
+}
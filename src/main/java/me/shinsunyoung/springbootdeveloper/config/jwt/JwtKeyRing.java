@@ -0,0 +1,75 @@
+package me.shinsunyoung.springbootdeveloper.config.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+// 서명 키 하나와 검증 키 여러 개를 묶은 불변 스냅샷, 로테이션은 새 스냅샷으로 교체한다
+final class JwtKeyRing {
+
+    private final String signingKeyId;
+    private final Key signingKey;
+    private final Map<String, Key> verificationKeys;
+    private final String legacyKeyId; // kid 헤더 없이 발급된 토큰을 검증할 키
+
+    private JwtKeyRing(String signingKeyId, Key signingKey, Map<String, Key> verificationKeys, String legacyKeyId) {
+        this.signingKeyId = signingKeyId;
+        this.legacyKeyId = legacyKeyId;
+        this.signingKey = signingKey;
+        this.verificationKeys = Map.copyOf(verificationKeys);
+    }
+
+    static JwtKeyRing from(JwtProperties jwtProperties) {
+        Map<String, Key> keys = new HashMap<>();
+        for (JwtProperties.VerificationKey key : jwtProperties.getVerificationKeys()) {
+            keys.put(key.getId(), toKey(key.getSecretKey()));
+        }
+        Key signingKey = toKey(jwtProperties.getSecretKey());
+        keys.put(jwtProperties.getKeyId(), signingKey);
+        return new JwtKeyRing(jwtProperties.getKeyId(), signingKey, keys, jwtProperties.getKeyId());
+    }
+
+    // 새 서명 키를 추가한 스냅샷, 기존 키는 검증용으로 남는다
+    // 이미 있는 kid의 키를 바꾸면 그 키로 발급된 토큰이 검증되지 않으므로 새 kid만 허용한다
+    JwtKeyRing rotate(String keyId, String secretKey) {
+        if (verificationKeys.containsKey(keyId)) {
+            throw new IllegalArgumentException("key id already registered: " + keyId);
+        }
+        Map<String, Key> keys = new HashMap<>(verificationKeys);
+        Key key = toKey(secretKey);
+        keys.put(keyId, key);
+        return new JwtKeyRing(keyId, key, keys, legacyKeyId);
+    }
+
+    // 검증 키 제거, 현재 서명 키는 제거할 수 없다
+    JwtKeyRing retire(String keyId) {
+        if (signingKeyId.equals(keyId)) {
+            throw new IllegalArgumentException("current signing key cannot be retired: " + keyId);
+        }
+        Map<String, Key> keys = new HashMap<>(verificationKeys);
+        keys.remove(keyId);
+        return new JwtKeyRing(signingKeyId, signingKey, keys, legacyKeyId);
+    }
+
+    String signingKeyId() {
+        return signingKeyId;
+    }
+
+    Key signingKey() {
+        return signingKey;
+    }
+
+    // 등록되지 않은 kid면 null
+    Key verificationKey(String keyId) {
+        return verificationKeys.get(keyId != null ? keyId : legacyKeyId);
+    }
+
+    // 기존 signWith(String)/setSigningKey(String)와 같이 Base64로 디코딩한 바이트를 HMAC 키로 사용
+    private static Key toKey(String secretKey) {
+        return new SecretKeySpec(TextCodec.BASE64.decode(secretKey), SignatureAlgorithm.HS256.getJcaName());
+    }
+}
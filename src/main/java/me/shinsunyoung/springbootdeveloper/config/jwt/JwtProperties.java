@@ -5,11 +5,25 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Setter
 @Getter
 @Component
 @ConfigurationProperties("jwt")
 public class JwtProperties {
     private String issuer;
-    private String secretKey;
+    private String secretKey; // 현재 서명 키 (kid 헤더가 없는 기존 토큰도 이 키로 검증)
+    private String keyId = "default"; // 현재 서명 키의 kid
+    private List<VerificationKey> verificationKeys = new ArrayList<>(); // 로테이션 이후 검증만 허용하는 이전 키
+    private long verifiedCacheSize = 10_000; // 검증된 토큰 캐시 최대 항목 수
+    private List<String> adminEmails = new ArrayList<>(); // ROLE_ADMIN을 부여할 사용자 이메일
+
+    @Setter
+    @Getter
+    public static class VerificationKey {
+        private String id;
+        private String secretKey;
+    }
 }
@@ -2,64 +2,130 @@ package me.shinsunyoung.springbootdeveloper.config.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import me.shinsunyoung.springbootdeveloper.domain.User;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import java.security.Key;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Set;
+import java.util.UUID;
 
-@RequiredArgsConstructor
 @Service
 public class TokenProvider {
 
+    // 리프레시 토큰 표시, 액세스 토큰을 /api/token에 보낸 경우를 재사용(탈취)과 구분하는 데 쓴다
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final JwtProperties jwtProperties;
+    // 키는 시작 시 한 번만 디코딩, 로테이션은 스냅샷 교체로 처리해 검증 스레드를 막지 않는다
+    private volatile JwtKeyRing keyRing;
+    // 설정이 끝난 파서는 상태를 바꾸지 않으므로 스레드 간에 공유한다
+    private final JwtParser parser;
+
+    public TokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.keyRing = JwtKeyRing.from(jwtProperties);
+        this.parser = Jwts.parser()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyRing.verificationKey(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("Unknown signing key id: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                });
+    }
 
     public String generateToken(User user, Duration expiredAt) {
+        return generateToken(user.getId(), user.getEmail(), expiredAt);
+    }
+
+    // 엔티티 조회 없이 사용자 ID와 이메일만으로 토큰 생성
+    public String generateToken(Long userId, String email, Duration expiredAt) {
         Date now = new Date();
-        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), user);
+        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), userId, email, null);
+    }
+
+    // typ=refresh 클레임을 넣은 리프레시 토큰 생성
+    public String generateRefreshToken(Long userId, String email, Duration expiredAt) {
+        Date now = new Date();
+        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), userId, email, REFRESH_TOKEN_TYPE);
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
     }
 
     // JWT 토큰 생성 메서드
-    private String makeToken(Date expiry, User user) {
+    private String makeToken(Date expiry, Long userId, String email, String type) {
         Date now = new Date();
+        JwtKeyRing ring = keyRing;
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setHeaderParam(JwsHeader.KEY_ID, ring.signingKeyId())
                 .setIssuer(jwtProperties.getIssuer())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .setSubject(user.getEmail())
-                .claim("id", user.getId())
-                .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecretKey())
+                .setSubject(email)
+                .setId(UUID.randomUUID().toString()) // 같은 초에 발급한 토큰도 서로 구분되도록
+                .claim("id", userId);
+        if (type != null) {
+            builder.claim(TOKEN_TYPE_CLAIM, type);
+        }
+        return builder.signWith(SignatureAlgorithm.HS256, ring.signingKey())
                 .compact();
     }
 
+    // 새 서명 키로 교체, 이전 키는 retireKey()를 호출할 때까지 검증에 사용된다
+    public synchronized void rotateKey(String keyId, String secretKey) {
+        keyRing = keyRing.rotate(keyId, secretKey);
+    }
+
+    // 이전 키로 발급된 토큰이 모두 만료된 뒤 검증 키에서 제거
+    public synchronized void retireKey(String keyId) {
+        keyRing = keyRing.retire(keyId);
+    }
+
     // JWT 토큰 유효성 검증 메서드
     public boolean validToken(String token) {
-        try{
-            Jwts.parser()
-                    .setSigningKey(jwtProperties.getSecretKey()) // 비밀키로 복호화
-                    .parseClaimsJws(token);
+        return getVerifiedClaims(token) != null;
+    }
 
-            return true;
+    // 서명과 만료를 한 번만 검증하고 클레임을 반환하는 메서드, 유효하지 않으면 null
+    public Claims getVerifiedClaims(String token) {
+        try{
+            return getClaims(token);
         } catch (Exception e) { // 복호화 과정에서 에러가 나면 유효하지 않은 토큰
-            return false;
+            return null;
         }
     }
 
     // 토큰 기반으로 인증 정보를 가져오는 메서드
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
-        Set<SimpleGrantedAuthority> authorities =
-                Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
+        return getAuthentication(getClaims(token), token);
+    }
+
+    // 이미 검증된 클레임으로 인증 정보를 만드는 메서드 (토큰을 다시 파싱하지 않는다)
+    public Authentication getAuthentication(Claims claims, String token) {
+        Set<SimpleGrantedAuthority> authorities = jwtProperties.getAdminEmails().contains(claims.getSubject())
+                ? Set.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"))
+                : Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
 
         return new UsernamePasswordAuthenticationToken((new org.springframework.security.core.
                 userdetails.User(claims.getSubject(),"",authorities)),
@@ -74,9 +140,7 @@ public class TokenProvider {
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey((jwtProperties.getSecretKey()))
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody();
     }
 }
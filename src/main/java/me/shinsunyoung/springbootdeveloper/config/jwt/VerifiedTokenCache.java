@@ -0,0 +1,93 @@
+package me.shinsunyoung.springbootdeveloper.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.shinsunyoung.springbootdeveloper.util.TokenDigestUtil;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 서명 검증을 마친 토큰의 클레임을 토큰 다이제스트 기준으로 보관해, 같은 토큰의 반복 요청은 HMAC 검증을 건너뛴다
+// 항목은 토큰의 exp 시각에 만료된다
+@Component
+public class VerifiedTokenCache {
+
+    private static final long MAX_TTL_NANOS = Duration.ofHours(1).toNanos();
+
+    private final TokenProvider tokenProvider;
+    private final Cache<String, Claims> cache;
+    // invalidateAll() 이전에 시작한 검증 결과가 비운 뒤에 다시 들어가지 않도록 세대를 비교한다
+    private final AtomicLong generation = new AtomicLong();
+
+    public VerifiedTokenCache(TokenProvider tokenProvider, JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCacheSize())
+                .expireAfter(new ExpiresAtTokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedTokens");
+    }
+
+    // 검증된 클레임 반환, 유효하지 않은 토큰이면 null (실패 결과는 캐시하지 않는다)
+    public Claims getVerifiedClaims(String token) {
+        if (token == null) {
+            return null;
+        }
+        return getVerifiedClaims(token, TokenDigestUtil.sha256(token));
+    }
+
+    // 호출하는 쪽에서 이미 다이제스트를 계산했다면 재사용
+    public Claims getVerifiedClaims(String token, String digest) {
+        Claims claims = cache.getIfPresent(digest);
+        if (claims != null) {
+            return claims;
+        }
+
+        long startedAt = generation.get();
+        claims = tokenProvider.getVerifiedClaims(token);
+        if (claims != null && generation.get() == startedAt) {
+            cache.put(digest, claims);
+        }
+        return claims;
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(TokenDigestUtil.sha256(token));
+    }
+
+    // 검증 키가 제거되면 그 키로 서명된 토큰이 캐시 적중으로 통과하지 않도록 전부 비운다
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private static class ExpiresAtTokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return MAX_TTL_NANOS;
+            }
+            long remaining = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remaining, MAX_TTL_NANOS));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package me.shinsunyoung.springbootdeveloper.config.oauth;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import me.shinsunyoung.springbootdeveloper.util.CookieCodec;
 import me.shinsunyoung.springbootdeveloper.util.CookieUtil;
 import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
@@ -12,6 +13,12 @@ public class OAuth2AuthorizationRequestBasedOnCookieRepository implements Author
     public final static String OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME = "oauth2_auth_request";
     private final static int COOKIE_EXPIRE_SECONDS = 18000;
 
+    private final CookieCodec<OAuth2AuthorizationRequest> cookieCodec;
+
+    public OAuth2AuthorizationRequestBasedOnCookieRepository(CookieCodec<OAuth2AuthorizationRequest> cookieCodec) {
+        this.cookieCodec = cookieCodec;
+    }
+
     @Override
     public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest
                                                                          request, HttpServletResponse response) {
@@ -22,7 +29,7 @@ public class OAuth2AuthorizationRequestBasedOnCookieRepository implements Author
     public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest
                                                                        request) {
         Cookie cookie = WebUtils.getCookie(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME);
-        return CookieUtil.deserialize(cookie, OAuth2AuthorizationRequest.class);
+        return CookieUtil.decode(cookie, cookieCodec);
     }
 
     @Override
@@ -34,7 +41,7 @@ public class OAuth2AuthorizationRequestBasedOnCookieRepository implements Author
             return;
         }
         CookieUtil.addCookie(response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME,
-                CookieUtil.serialize(authorizationRequest), COOKIE_EXPIRE_SECONDS);
+                CookieUtil.encode(authorizationRequest, cookieCodec), COOKIE_EXPIRE_SECONDS);
     }
 
     public void removeAuthorizationRequestCookies(HttpServletRequest request,
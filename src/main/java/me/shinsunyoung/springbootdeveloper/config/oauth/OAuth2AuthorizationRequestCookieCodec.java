@@ -0,0 +1,196 @@
+package me.shinsunyoung.springbootdeveloper.config.oauth;
+
+import me.shinsunyoung.springbootdeveloper.util.CookieCodec;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// OAuth2AuthorizationRequest 전용 쿠키 코덱
+// Java 직렬화 대신 필드 단위 바이너리 -> deflate -> HMAC-SHA256 서명 -> Base64url 순서로 인코딩한다
+// 서명이 맞지 않으면 압축 해제도 하지 않으므로 임의 객체 역직렬화 위험이 없다
+public class OAuth2AuthorizationRequestCookieCodec implements CookieCodec<OAuth2AuthorizationRequest> {
+
+    private static final byte VERSION = 1;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 32;
+    private static final int MAX_INFLATED_SIZE = 16 * 1024;
+
+    private final Mac macPrototype;
+
+    public OAuth2AuthorizationRequestCookieCodec(byte[] secret) {
+        try {
+            this.macPrototype = Mac.getInstance(HMAC_ALGORITHM);
+            this.macPrototype.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String encode(OAuth2AuthorizationRequest request) {
+        byte[] payload = deflate(write(request));
+        byte[] signed = Arrays.copyOf(payload, payload.length + MAC_LENGTH);
+        System.arraycopy(mac().doFinal(payload), 0, signed, payload.length, MAC_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signed);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest decode(String value) {
+        try {
+            byte[] signed = Base64.getUrlDecoder().decode(value);
+            if (signed.length <= MAC_LENGTH) {
+                return null;
+            }
+            byte[] payload = Arrays.copyOf(signed, signed.length - MAC_LENGTH);
+            byte[] mac = Arrays.copyOfRange(signed, payload.length, signed.length);
+            if (!MessageDigest.isEqual(mac, mac().doFinal(payload))) {
+                return null;
+            }
+            return read(inflate(payload));
+        } catch (IllegalArgumentException | IOException | DataFormatException e) {
+            return null;
+        }
+    }
+
+    private static byte[] write(OAuth2AuthorizationRequest request) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(request.getAuthorizationUri());
+            out.writeUTF(request.getClientId());
+            writeNullable(out, request.getRedirectUri());
+            writeNullable(out, request.getState());
+            writeNullable(out, request.getAuthorizationRequestUri());
+
+            out.writeShort(request.getScopes().size());
+            for (String scope : request.getScopes()) {
+                out.writeUTF(scope);
+            }
+            writeStringMap(out, request.getAdditionalParameters());
+            writeStringMap(out, request.getAttributes());
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // 메모리 스트림이라 발생하지 않는다
+        }
+        return bytes.toByteArray();
+    }
+
+    private static OAuth2AuthorizationRequest read(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readByte() != VERSION) {
+            return null;
+        }
+        String authorizationUri = in.readUTF();
+        String clientId = in.readUTF();
+        String redirectUri = readNullable(in);
+        String state = readNullable(in);
+        String authorizationRequestUri = readNullable(in);
+
+        int scopeCount = in.readUnsignedShort();
+        Set<String> scopes = new LinkedHashSet<>();
+        for (int i = 0; i < scopeCount; i++) {
+            scopes.add(in.readUTF());
+        }
+        Map<String, Object> additionalParameters = readStringMap(in);
+        Map<String, Object> attributes = readStringMap(in);
+
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(authorizationUri)
+                .clientId(clientId)
+                .redirectUri(redirectUri)
+                .state(state)
+                .scopes(scopes)
+                .additionalParameters(additionalParameters)
+                .attributes(attributes)
+                .authorizationRequestUri(authorizationRequestUri)
+                .build();
+    }
+
+    // 인가 요청의 파라미터/속성 값은 모두 문자열(registration_id, nonce, code_verifier 등)
+    private static void writeStringMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        out.writeShort(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            if (!(entry.getValue() instanceof String)) {
+                throw new IllegalArgumentException("Unsupported authorization request value: " + entry.getKey());
+            }
+            out.writeUTF(entry.getKey());
+            out.writeUTF((String) entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readStringMap(DataInputStream in) throws IOException {
+        int size = in.readUnsignedShort();
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(in.readUTF(), in.readUTF());
+        }
+        return map;
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length);
+            byte[] buffer = new byte[512];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // 압축 폭탄을 막기 위해 해제 크기를 제한
+    private static byte[] inflate(byte[] input) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            byte[] buffer = new byte[MAX_INFLATED_SIZE];
+            int length = inflater.inflate(buffer);
+            if (!inflater.finished()) {
+                throw new DataFormatException("authorization request cookie too large");
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private Mac mac() {
+        try {
+            return (Mac) macPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
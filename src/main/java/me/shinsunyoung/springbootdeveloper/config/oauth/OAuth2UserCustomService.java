@@ -1,8 +1,8 @@
 package me.shinsunyoung.springbootdeveloper.config.oauth;
 
 import lombok.RequiredArgsConstructor;
-import me.shinsunyoung.springbootdeveloper.domain.User;
-import me.shinsunyoung.springbootdeveloper.repository.UserRepository;
+import me.shinsunyoung.springbootdeveloper.dto.UserProfile;
+import me.shinsunyoung.springbootdeveloper.service.UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -15,28 +15,23 @@ import java.util.Map;
 @Service
 public class OAuth2UserCustomService extends DefaultOAuth2UserService  {
 
-    private final UserRepository userRepository;
+    private final UserService userService;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
 
         OAuth2User user = super.loadUser(userRequest);
-        saveOrUpdate(user);
-        return user;
+        UserProfile saved = saveOrUpdate(user);
+        // 성공 핸들러에서 사용자를 다시 조회하지 않도록 id를 principal에 담는다
+        return new OAuth2UserPrincipal(saved.getId(), saved.getEmail(), user);
     }
 
-    private User saveOrUpdate(OAuth2User oAuth2User) {
+    private UserProfile saveOrUpdate(OAuth2User oAuth2User) {
 
         Map<String, Object> attributes = oAuth2User.getAttributes();
         String email = (String) attributes.get("email");
         String name = (String) attributes.get("name");
-        User user = userRepository.findByEmail(email)
-                .map(entity -> entity.update(name))
-                .orElse(User.builder()
-                        .email(email)
-                        .nickname(name)
-                        .build());
-
-        return userRepository.save(user);
+
+        return userService.saveOrUpdate(email, name);
     }
 }
@@ -0,0 +1,39 @@
+package me.shinsunyoung.springbootdeveloper.config.oauth;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+// 로그인 시 한 번 조회한 사용자 id와 이메일을 OAuth2SuccessHandler까지 전달하는 principal
+@Getter
+public class OAuth2UserPrincipal implements OAuth2User, Serializable {
+
+    private final Long userId;
+    private final String email;
+    private final OAuth2User delegate;
+
+    public OAuth2UserPrincipal(Long userId, String email, OAuth2User delegate) {
+        this.userId = userId;
+        this.email = email;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return delegate.getAttributes();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return delegate.getAuthorities();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+}
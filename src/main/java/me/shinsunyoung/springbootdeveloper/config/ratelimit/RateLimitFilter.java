@@ -0,0 +1,56 @@
+package me.shinsunyoung.springbootdeveloper.config.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.shinsunyoung.springbootdeveloper.config.error.ErrorCode;
+import me.shinsunyoung.springbootdeveloper.config.error.ErrorResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 인증된 사용자별 쓰기 API 요청 제한, TokenAuthenticationFilter 다음에 실행된다
+// 인증되지 않은 요청은 그대로 통과시켜 인가 단계에서 401로 처리되도록 한다
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        RateLimiter.Route route = rateLimiter.match(request);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if(route == null || authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitMillis = rateLimiter.tryConsume(route, authentication.getName());
+        if(waitMillis > 0) {
+            response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(response.getWriter(), ErrorResponse.of(ErrorCode.TOO_MANY_REQUESTS));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,98 @@
+package me.shinsunyoung.springbootdeveloper.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+// 경로별 설정(blog.rate-limit.routes)에 따라 "경로:사용자" 키마다 토큰 버킷을 둔다
+// 일정 시간 요청이 없는 버킷은 제거되며, 다시 만들어질 때는 가득 찬 상태로 시작한다
+@Component
+public class RateLimiter {
+
+    private final List<Route> routes;
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimiter(BlogProperties blogProperties, MeterRegistry meterRegistry) {
+        BlogProperties.RateLimit properties = blogProperties.getRateLimit();
+        this.routes = properties.isEnabled()
+                ? properties.getRoutes().stream().map(route -> new Route(route, meterRegistry)).toList()
+                : List.of();
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getIdleTimeout())
+                .maximumSize(properties.getMaximumBuckets())
+                .build();
+
+        Gauge.builder("ratelimit.buckets", buckets, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    // 제한 대상 경로가 아니면 null
+    public Route match(HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return null;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (Route route : routes) {
+            if (route.matches(request.getMethod(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    // 허용하면 0, 제한하면 다시 시도할 수 있을 때까지의 ms
+    public long tryConsume(Route route, String principal) {
+        long now = System.currentTimeMillis();
+        TokenBucket bucket = buckets.get(route.name + ':' + principal,
+                key -> new TokenBucket(route.capacity, route.refillPerSecond, now));
+        long waitMillis = bucket.tryConsume(now);
+        (waitMillis == 0 ? route.allowed : route.throttled).increment();
+        return waitMillis;
+    }
+
+    public static final class Route {
+        private final String name;
+        private final String method;
+        private final PathPattern pattern;
+        private final long capacity;
+        private final double refillPerSecond;
+        private final Counter allowed;
+        private final Counter throttled;
+
+        private Route(BlogProperties.RateLimit.Route route, MeterRegistry meterRegistry) {
+            this.name = route.getName();
+            this.method = route.getMethod();
+            this.pattern = PathPatternParser.defaultInstance.parse(route.getPath());
+            this.capacity = route.getCapacity();
+            this.refillPerSecond = route.getRefillPerSecond();
+            this.allowed = counter(meterRegistry, "allowed");
+            this.throttled = counter(meterRegistry, "throttled");
+        }
+
+        private boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+
+        // ratelimit.requests{route, result=allowed|throttled}
+        private Counter counter(MeterRegistry meterRegistry, String result) {
+            return Counter.builder("ratelimit.requests")
+                    .tag("route", name)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package me.shinsunyoung.springbootdeveloper.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 잠금 없는 토큰 버킷, 상태(마지막 충전 시각 + 남은 토큰)를 long 하나에 담아 CAS로 갱신한다
+// 상위 40비트: 버킷 생성 이후 경과 ms (약 34년), 하위 24비트: 남은 토큰 x 1000 (용량은 최대 16,777개)
+public class TokenBucket {
+
+    static final long SCALE = 1000;
+    static final int TOKEN_BITS = 24;
+    static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    static final long MAX_CAPACITY = TOKEN_MASK / SCALE;
+
+    private final long origin;
+    private final long capacity;      // x SCALE
+    private final double refillPerMs; // x SCALE, 초당 충전 토큰 수와 같은 값
+    private final AtomicLong state;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowMillis) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException("refillPerSecond must be positive");
+        }
+        this.origin = nowMillis;
+        this.capacity = capacity * SCALE;
+        this.refillPerMs = refillPerSecond;
+        this.state = new AtomicLong(pack(0, this.capacity));
+    }
+
+    // 토큰 하나를 꺼내면 0, 부족하면 다음 토큰이 생길 때까지 기다려야 하는 ms
+    public long tryConsume(long nowMillis) {
+        long elapsedNow = Math.max(0, nowMillis - origin);
+        while (true) {
+            long current = state.get();
+            long elapsed = current >>> TOKEN_BITS;
+            long tokens = current & TOKEN_MASK;
+
+            long refilled = Math.min(capacity, tokens + (long) (Math.max(0, elapsedNow - elapsed) * refillPerMs));
+            if (refilled < SCALE) {
+                return (long) Math.ceil((SCALE - refilled) / refillPerMs);
+            }
+            if (state.compareAndSet(current, pack(Math.max(elapsed, elapsedNow), refilled - SCALE))) {
+                return 0;
+            }
+        }
+    }
+
+    private static long pack(long elapsedMillis, long tokens) {
+        return (elapsedMillis << TOKEN_BITS) | tokens;
+    }
+}
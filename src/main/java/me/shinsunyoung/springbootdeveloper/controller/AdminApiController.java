@@ -0,0 +1,67 @@
+package me.shinsunyoung.springbootdeveloper.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.shinsunyoung.springbootdeveloper.dto.RevokeAccessTokenRequest;
+import me.shinsunyoung.springbootdeveloper.dto.RotateSigningKeyRequest;
+import me.shinsunyoung.springbootdeveloper.dto.RevokeRefreshTokensResponse;
+import me.shinsunyoung.springbootdeveloper.service.JwtKeyService;
+import me.shinsunyoung.springbootdeveloper.service.RefreshTokenService;
+import me.shinsunyoung.springbootdeveloper.service.TokenRevocationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+// 사고 대응용 관리자 API (ROLE_ADMIN, jwt.admin-emails로 지정)
+@RequiredArgsConstructor
+@RestController
+public class AdminApiController {
+
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final JwtKeyService jwtKeyService;
+
+    // 특정 사용자의 리프레시 토큰 폐기
+    @DeleteMapping("/api/admin/users/{userId}/refresh-tokens")
+    public ResponseEntity<RevokeRefreshTokensResponse> revokeRefreshTokens(@PathVariable("userId") long userId) {
+        return ResponseEntity.ok()
+                .body(new RevokeRefreshTokensResponse(refreshTokenService.revokeByUserId(userId)));
+    }
+
+    // 탈취된 액세스 토큰 폐기, 이미 만료됐거나 유효하지 않은 토큰이면 400
+    @PostMapping("/api/admin/access-tokens/revoke")
+    public ResponseEntity<Void> revokeAccessToken(@RequestBody RevokeAccessTokenRequest request) {
+        if (!tokenRevocationService.revoke(request.getToken())) {
+            return ResponseEntity.badRequest()
+                    .build();
+        }
+        return ResponseEntity.noContent()
+                .build();
+    }
+
+    // 모든 리프레시 토큰 폐기, 모든 사용자는 액세스 토큰이 만료되면 다시 로그인해야 한다
+    @DeleteMapping("/api/admin/refresh-tokens")
+    public ResponseEntity<RevokeRefreshTokensResponse> revokeAllRefreshTokens() {
+        return ResponseEntity.ok()
+                .body(new RevokeRefreshTokensResponse(refreshTokenService.revokeAll()));
+    }
+
+    // 새 kid의 서명 키로 교체, 이전 키는 제거할 때까지 검증에 사용된다
+    // 요청을 받은 인스턴스에만 적용되므로 모든 인스턴스에 호출하고, 재시작 후에도 유지하려면 jwt 설정도 함께 바꾼다
+    @PostMapping("/api/admin/signing-keys")
+    public ResponseEntity<Void> rotateSigningKey(@RequestBody RotateSigningKeyRequest request) {
+        jwtKeyService.rotate(request.getKeyId(), request.getSecretKey());
+        return ResponseEntity.noContent()
+                .build();
+    }
+
+    // 이전 키로 발급된 토큰이 모두 만료된 뒤 검증 키에서 제거, 현재 서명 키는 제거할 수 없다
+    @DeleteMapping("/api/admin/signing-keys/{keyId}")
+    public ResponseEntity<Void> retireSigningKey(@PathVariable("keyId") String keyId) {
+        jwtKeyService.retire(keyId);
+        return ResponseEntity.noContent()
+                .build();
+    }
+}
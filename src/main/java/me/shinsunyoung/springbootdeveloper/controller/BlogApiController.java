@@ -1,24 +1,40 @@
 package me.shinsunyoung.springbootdeveloper.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
 import me.shinsunyoung.springbootdeveloper.domain.Article;
 import me.shinsunyoung.springbootdeveloper.domain.Comment;
 import me.shinsunyoung.springbootdeveloper.dto.*;
+import me.shinsunyoung.springbootdeveloper.service.ArticleExportService;
 import me.shinsunyoung.springbootdeveloper.service.BlogService;
+import me.shinsunyoung.springbootdeveloper.service.TrendingWindow;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
 import java.security.Principal;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 @RequiredArgsConstructor
 @RestController
 public class BlogApiController {
 
     private final BlogService blogService;
+    private final ArticleExportService articleExportService;
+    private final ObjectMapper objectMapper;
+    private final BlogProperties blogProperties;
 
     @PostMapping("/api/articles")
     public ResponseEntity<Article> addArticle(@RequestBody @Validated AddArticleRequest request, Principal principal){
@@ -29,6 +45,20 @@ public class BlogApiController {
                 .body(savedArticle);
     }
 
+    // JSON 배열 또는 NDJSON 본문을 한 건씩 읽어가며 배치로 저장 (전체 본문을 메모리에 올리지 않는다)
+    @PostMapping(value = "/api/articles/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<List<BulkArticleResult>> addArticles(HttpServletRequest request, Principal principal) throws IOException {
+
+        try (MappingIterator<AddArticleRequest> requests = objectMapper.readerFor(AddArticleRequest.class)
+                .readValues(request.getInputStream())) {
+            List<BulkArticleResult> results = blogService.importArticles(requests, principal.getName());
+
+            return ResponseEntity.ok()
+                    .body(results);
+        }
+    }
+
 /*
     @GetMapping("/api/articles")
     public ResponseEntity<List<Article>> findAll(){
@@ -40,24 +70,68 @@ public class BlogApiController {
     }
  */
     @GetMapping("/api/articles")
-    public ResponseEntity<List<ArticleResponse>> findAllArticles(){
+    public ResponseEntity<CursorPage<ArticleListViewResponse>> findAllArticles(
+            @RequestParam(required = false, name = "after") String after,
+            @RequestParam(required = false, name = "before") String before,
+            @RequestParam(required = false, name = "size") Integer size){
+
+        CursorPage<ArticleListViewResponse> articles = blogService.findPage(after, before, size)
+                .map(ArticleListViewResponse::new);
+
+        return ResponseEntity.ok()
+                .body(articles);
+    }
 
-        List<ArticleResponse> articles = blogService.findAll()
-                .stream()
-                .map(ArticleResponse::new)
-                .toList();
+    @GetMapping("/api/articles/trending")
+    public ResponseEntity<List<TrendingArticleResponse>> findTrendingArticles(
+            @RequestParam(defaultValue = "day", name = "window") String window,
+            @RequestParam(defaultValue = "10", name = "limit") int limit){
+
+        List<TrendingArticleResponse> articles = blogService.findTrending(TrendingWindow.from(window), limit);
 
         return ResponseEntity.ok()
                 .body(articles);
     }
 
+    // 전체 글과 댓글을 NDJSON으로 스트리밍 (목록을 메모리에 모으지 않는다)
+    // 오래 걸리는 요청이므로 전역 비동기 타임아웃 대신 이 요청에만 blog.export.timeout을 적용한다
+    @GetMapping(value = "/api/articles/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> exportArticles(HttpServletResponse response){
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        Callable<Void> export = () -> {
+            articleExportService.exportTo(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        };
+
+        return new WebAsyncTask<>(blogProperties.getExport().getTimeout().toMillis(), export);
+    }
+
     @GetMapping("/api/articles/{id}")
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable("id") long id){
+    public ResponseEntity<ArticleResponse> findArticle(@PathVariable("id") long id, WebRequest webRequest){
+
+        ArticleDetail article = blogService.findDetailById(id);
+        // If-None-Match, If-Modified-Since가 일치하면 직렬화 없이 304 응답
+        // 조회수는 근사값이라 검증자에 포함하지 않는다 (약한 ETag)
+        if (webRequest.checkNotModified(article.getETag(), article.getLastModified())) {
+            return null;
+        }
+        blogService.recordRead(id); // 304는 인기 글 집계에서 제외
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(new ArticleResponse(article, blogService.findViews(id)));
+    }
 
-        Article article = blogService.findById(id);
+    @GetMapping("/api/articles/{id}/comments")
+    public ResponseEntity<CursorPage<CommentResponse>> findComments(
+            @PathVariable("id") long id,
+            @RequestParam(required = false, name = "after") Long after,
+            @RequestParam(required = false, name = "size") Integer size){
 
         return ResponseEntity.ok()
-                .body(new ArticleResponse((article)));
+                .body(blogService.findComments(id, after, size));
     }
 
     @DeleteMapping("/api/articles/{id}")
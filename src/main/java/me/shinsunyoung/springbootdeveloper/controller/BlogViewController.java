@@ -1,47 +1,63 @@
 package me.shinsunyoung.springbootdeveloper.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleDetail;
 import me.shinsunyoung.springbootdeveloper.dto.ArticleListViewResponse;
 import me.shinsunyoung.springbootdeveloper.dto.ArticleViewResponse;
+import me.shinsunyoung.springbootdeveloper.dto.CursorPage;
 import me.shinsunyoung.springbootdeveloper.service.BlogService;
+import me.shinsunyoung.springbootdeveloper.service.TrendingWindow;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RequiredArgsConstructor
 @Controller
 public class BlogViewController {
 
+    private static final int TRENDING_SIZE = 5;
+
     private final BlogService blogService;
 
     @GetMapping("/articles")
-    public String getArticles(Model model) {
+    public String getArticles(@RequestParam(required = false, name = "after") String after,
+                              @RequestParam(required = false, name = "before") String before,
+                              Model model) {
 
-        List<ArticleListViewResponse> articles = blogService.findAll()
-                .stream()
-                .map(ArticleListViewResponse::new)
-                .toList();
+        CursorPage<ArticleListViewResponse> page = blogService.findPage(after, before, null)
+                .map(ArticleListViewResponse::new);
 
-        //List<Article> articles = blogService.findAll();
-
-        model.addAttribute("articles", articles);
+        model.addAttribute("articles", page.getItems());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("prevCursor", page.getPrevCursor());
+        model.addAttribute("trending", blogService.findTrending(TrendingWindow.DAY, TRENDING_SIZE));
 
         return "articleList";
     }
 
     @GetMapping("/articles/{id}")
-    public String getArticle(@PathVariable("id") Long id, Model model) {
+    public String getArticle(@PathVariable("id") Long id, Model model,
+                             WebRequest webRequest, HttpServletResponse response) {
 
-        Article article = blogService.findById(id);
+        ArticleDetail article = blogService.findDetailById(id);
+        // 약한 검증자가 일치하면 템플릿 렌더링 없이 304 응답 (조회수는 근사값이라 검증자에 포함하지 않는다)
+        if (webRequest.checkNotModified(article.getETag(), article.getLastModified())) {
+            return null;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        // 조회수와 인기 글 집계 모두 본문을 내려준 경우만 센다 (304 재검증 제외)
+        long views = blogService.increaseViews(id);
+        blogService.recordRead(id);
 
         model.addAttribute("article",
-                new ArticleViewResponse(article));
+                new ArticleViewResponse(article, views, blogService.findComments(id, null, null)));
 
         return "article";
     }
@@ -54,7 +70,7 @@ public class BlogViewController {
                     new ArticleViewResponse());
         }
         else {
-            Article article = blogService.findById(id);
+            ArticleDetail article = blogService.findDetailById(id);
 
             model.addAttribute("article",
                     new ArticleViewResponse(article));
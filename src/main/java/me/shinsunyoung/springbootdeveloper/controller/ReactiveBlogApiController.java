@@ -0,0 +1,37 @@
+package me.shinsunyoung.springbootdeveloper.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleListViewResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleResponse;
+import me.shinsunyoung.springbootdeveloper.dto.CommentResponse;
+import me.shinsunyoung.springbootdeveloper.service.ReactiveBlogService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// BlogApiController의 읽기 API를 Reactor 타입으로 제공 (모바일 클라이언트용)
+// 목록은 NDJSON으로 한 건씩 바로 내보내며, 요청 스레드는 응답을 기다리지 않고 반환된다
+@RequiredArgsConstructor
+@RestController
+public class ReactiveBlogApiController {
+
+    private final ReactiveBlogService reactiveBlogService;
+
+    @GetMapping(value = "/rx/articles", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ArticleListViewResponse> streamArticles(){
+        return reactiveBlogService.streamArticles();
+    }
+
+    @GetMapping("/rx/articles/{id}")
+    public Mono<ArticleResponse> findArticle(@PathVariable("id") long id){
+        return reactiveBlogService.findArticle(id);
+    }
+
+    @GetMapping(value = "/rx/articles/{id}/comments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CommentResponse> streamComments(@PathVariable("id") long id){
+        return reactiveBlogService.streamComments(id);
+    }
+}
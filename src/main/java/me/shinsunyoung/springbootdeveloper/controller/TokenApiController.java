@@ -1,27 +1,46 @@
 package me.shinsunyoung.springbootdeveloper.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import me.shinsunyoung.springbootdeveloper.dto.CreateAccessTokenRequest;
 import me.shinsunyoung.springbootdeveloper.dto.CreateAccessTokenResponse;
 import me.shinsunyoung.springbootdeveloper.service.TokenService;
-import org.apache.coyote.Response;
+import me.shinsunyoung.springbootdeveloper.util.CookieUtil;
+import org.springframework.security.core.Authentication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import static me.shinsunyoung.springbootdeveloper.config.oauth.OAuth2SuccessHandler.REFRESH_TOKEN_COOKIE_NAME;
+
 @RequiredArgsConstructor
 @RestController
 public class TokenApiController {
     private final TokenService tokenService;
 
     @PostMapping("/api/token")
-    public ResponseEntity<CreateAccessTokenResponse> createNewAccessToken(@RequestBody CreateAccessTokenRequest request) {
-        String newAccessToken = tokenService.createNewAccessToken(request.getRefreshToken());
+    public ResponseEntity<CreateAccessTokenResponse> createNewAccessToken(@RequestBody CreateAccessTokenRequest request,
+                                                                          HttpServletResponse response) {
+        CreateAccessTokenResponse tokens = tokenService.createNewAccessToken(request.getRefreshToken());
+        // 교체된 리프레시 토큰으로 쿠키 갱신, 쿠키는 토큰의 남은 기간만큼만 유지
+        if (tokens.getRefreshToken() != null) {
+            CookieUtil.addCookie(response, REFRESH_TOKEN_COOKIE_NAME, tokens.getRefreshToken(),
+                    (int) tokens.getRefreshTokenLifetime().toSeconds());
+        }
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new CreateAccessTokenResponse(newAccessToken));
+                .body(tokens);
+
+    }
+
+    // 요청에 사용한 액세스 토큰과 사용자의 리프레시 토큰 폐기
+    @PostMapping("/api/token/revoke")
+    public ResponseEntity<Void> revokeTokens(Authentication authentication) {
+        tokenService.revoke((String) authentication.getCredentials());
 
+        return ResponseEntity.noContent()
+                .build();
     }
 }
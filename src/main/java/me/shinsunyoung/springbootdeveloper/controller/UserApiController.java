@@ -11,16 +11,19 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 
+import java.util.concurrent.CompletableFuture;
+
 @RequiredArgsConstructor
 @Controller
 public class UserApiController {
 
     private final UserService userService;
 
+    // 비동기 처리로 비밀번호 해시 동안 요청 스레드를 반환
     @PostMapping("/user")
-    public String signup(AddUserRequest request) {
-        userService.save(request);
-        return "redirect:/login";
+    public CompletableFuture<String> signup(AddUserRequest request) {
+        return userService.save(request)
+                .thenApply(id -> "redirect:/login");
     }
 
     @GetMapping("/logout")
@@ -1,5 +1,6 @@
 package me.shinsunyoung.springbootdeveloper.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -13,14 +14,19 @@ import javax.annotation.processing.Generated;
 import java.time.LocalDateTime;
 import java.util.List;
 
+@Table(name = "article", indexes = {
+        @Index(name = "idx_article_created_at_id", columnList = "created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Article {
 
+    // IDENTITY 전략은 JDBC 배치 INSERT를 막기 때문에 pooled 시퀀스(MySQL에서는 시퀀스 테이블)로 id를 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = 50)
     @Column(name = "id", updatable = false)
     private Long id;
 
@@ -33,6 +39,9 @@ public class Article {
     @Column(name = "author", nullable = false)
     private String author;
 
+    @Column(name = "excerpt", length = 150)
+    private String excerpt;
+
     @CreatedDate
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -53,6 +62,11 @@ public class Article {
         this.content = content;
     }
 
+    public void updateExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    @JsonIgnore
     @OneToMany(mappedBy = "article", cascade = CascadeType.REMOVE)
     private List<Comment> comments;
 }
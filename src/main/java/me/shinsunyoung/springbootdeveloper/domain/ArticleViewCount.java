@@ -0,0 +1,21 @@
+package me.shinsunyoung.springbootdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 글 조회수, 조회가 몰리는 article 행과 잠금이 겹치지 않도록 별도 테이블에 둔다
+@Table(name = "article_views")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class ArticleViewCount {
+
+    @Id
+    @Column(name = "article_id", updatable = false)
+    private Long articleId;
+
+    @Column(name = "views", nullable = false)
+    private long views;
+}
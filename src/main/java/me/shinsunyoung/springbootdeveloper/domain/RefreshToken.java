@@ -4,11 +4,18 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(name = "refresh_token", indexes = {
+        // 토큰 원문 대신 고정 길이 SHA-256 다이제스트로 조회
+        @Index(name = "uk_refresh_token_token_hash", columnList = "token_hash", unique = true),
+        // 만료 토큰 일괄 삭제용
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
 public class RefreshToken {
 
     @Id
@@ -19,16 +26,28 @@ public class RefreshToken {
     @Column(name = "user_id", nullable = false, unique = true)
     private Long userId;
 
-    @Column(name = "refresh_token", nullable = false)
-    private String refreshToken;
+    @Column(name = "token_hash", nullable = false, length = 64, columnDefinition = "char(64)")
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 마지막 교체로 밀려난 토큰과 교체 시각, 동시 재발급 유예 판단용
+    @Column(name = "previous_hash", length = 64, columnDefinition = "char(64)")
+    private String previousHash;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
 
-    public RefreshToken(Long user_id, String refresh_token) {
-        this.userId = user_id;
-        this.refreshToken = refresh_token;
+    public RefreshToken(Long userId, String tokenHash, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
     }
 
-    public RefreshToken update(String refresh_token) {
-        this.refreshToken = refresh_token;
+    public RefreshToken update(String tokenHash, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
         return this;
     }
 }
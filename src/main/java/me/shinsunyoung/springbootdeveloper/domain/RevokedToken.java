@@ -0,0 +1,39 @@
+package me.shinsunyoung.springbootdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 폐기된 액세스 토큰, Bloom 필터가 양성일 때만 조회하는 정확한 목록
+@Table(name = "revoked_token", indexes = {
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at"), // 증분 재적재
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")  // 만료 행 삭제
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class RevokedToken {
+
+    @Id
+    @Column(name = "token_hash", updatable = false, length = 64, columnDefinition = "char(64)")
+    private String tokenHash;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    public RevokedToken(String tokenHash, Long userId, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+}
@@ -74,6 +74,13 @@ public class User implements UserDetails {
         return true;
     }
 
+    // 로그인 성공 시 더 높은 비용으로 다시 해시한 비밀번호로 교체
+    public User updatePassword(String password) {
+        this.password = password;
+
+        return this;
+    }
+
     public User update(String nickname) {
         this.nickname = nickname;
 
@@ -0,0 +1,48 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.config.error.exception.InvalidCursorException;
+import me.shinsunyoung.springbootdeveloper.repository.ArticleSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// (created_at, id) 기준 키셋 페이지네이션 커서
+@AllArgsConstructor
+@Getter
+public class ArticleCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static ArticleCursor of(ArticleSummary article) {
+        return new ArticleCursor(article.getCreatedAt(), article.getId());
+    }
+
+    // 클라이언트에는 내부 구조를 알 수 없는 불투명한 토큰으로 전달
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ArticleCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new InvalidCursorException();
+            }
+            return new ArticleCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.domain.Article;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 캐시에 보관하는 글 상세 스냅샷 (엔티티와 달리 불변이고 지연 로딩 프록시를 갖지 않는다)
+@AllArgsConstructor
+@Getter
+public class ArticleDetail {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final long commentCount;
+
+    public ArticleDetail(Article article, long commentCount) {
+        this(article.getId(),
+                article.getTitle(),
+                article.getContent(),
+                article.getAuthor(),
+                article.getCreatedAt(),
+                article.getUpdatedAt(),
+                commentCount);
+    }
+
+    // 조건부 GET 검증자: id, 수정 시각, 댓글 수가 같으면 같은 표현이다
+    // 응답에 함께 나가는 조회수는 검증자에 포함하지 않으므로 바이트 단위로 같음을 보장하지 않는 약한 검증자(W/)로 보낸다
+    public String getETag() {
+        return "W/\"" + id + "-" + getLastModified() + "-" + commentCount + "\"";
+    }
+
+    public long getLastModified() {
+        LocalDateTime modifiedAt = updatedAt != null ? updatedAt : createdAt;
+        if (modifiedAt == null) {
+            return -1;
+        }
+        return modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
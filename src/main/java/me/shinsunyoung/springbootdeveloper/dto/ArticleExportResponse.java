@@ -0,0 +1,30 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.domain.Article;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// NDJSON 내보내기의 한 줄 (글 + 댓글)
+@Getter
+public class ArticleExportResponse {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final List<CommentResponse> comments;
+
+    public ArticleExportResponse(Article article, List<CommentResponse> comments) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.content = article.getContent();
+        this.author = article.getAuthor();
+        this.createdAt = article.getCreatedAt();
+        this.updatedAt = article.getUpdatedAt();
+        this.comments = comments;
+    }
+}
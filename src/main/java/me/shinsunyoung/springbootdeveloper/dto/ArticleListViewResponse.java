@@ -1,19 +1,25 @@
 package me.shinsunyoung.springbootdeveloper.dto;
 
 import lombok.Getter;
-import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.repository.ArticleSummary;
+
+import java.time.LocalDateTime;
 
 @Getter
 public class ArticleListViewResponse {
 
     private final Long id;
     private final String title;
-    private final  String content;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final String excerpt;
 
-    public ArticleListViewResponse(Article article) {
+    public ArticleListViewResponse(ArticleSummary article) {
         this.id = article.getId();
         this.title = article.getTitle();
-        this.content = article.getContent();
+        this.author = article.getAuthor();
+        this.createdAt = article.getCreatedAt();
+        this.excerpt = article.getExcerpt();
     }
 
 }
@@ -8,9 +8,17 @@ public class ArticleResponse
 {
     private final String title;
     private final String content;
+    private final long views;
 
     public ArticleResponse(Article article) {
         this.title = article.getTitle();
         this.content = article.getContent();
+        this.views = 0;
+    }
+
+    public ArticleResponse(ArticleDetail article, long views) {
+        this.title = article.getTitle();
+        this.content = article.getContent();
+        this.views = views;
     }
 }
@@ -2,8 +2,6 @@ package me.shinsunyoung.springbootdeveloper.dto;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import me.shinsunyoung.springbootdeveloper.domain.Article;
-import me.shinsunyoung.springbootdeveloper.domain.Comment;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,14 +15,22 @@ public class ArticleViewResponse {
     private String content;
     private String author;
     private LocalDateTime createdAt;
-    private List<Comment> comments;
+    private long views;
+    private List<CommentResponse> comments;
+    private String nextCommentCursor;
 
-    public ArticleViewResponse(Article article) {
+    public ArticleViewResponse(ArticleDetail article) {
+        this(article, 0, new CursorPage<>(List.of(), null, null));
+    }
+
+    public ArticleViewResponse(ArticleDetail article, long views, CursorPage<CommentResponse> comments) {
         this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
         this.author = article.getAuthor();
         this.createdAt = article.getCreatedAt();
-        this.comments = article.getComments();
+        this.views = views;
+        this.comments = comments.getItems();
+        this.nextCommentCursor = comments.getNextCursor();
     }
 }
@@ -0,0 +1,25 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 대량 등록 요청의 항목별 처리 결과
+@AllArgsConstructor
+@Getter
+public class BulkArticleResult {
+
+    public enum Status { CREATED, FAILED }
+
+    private final int index;
+    private final Long id;
+    private final Status status;
+    private final String message;
+
+    public static BulkArticleResult created(int index, Long id) {
+        return new BulkArticleResult(index, id, Status.CREATED, null);
+    }
+
+    public static BulkArticleResult failed(int index, String message) {
+        return new BulkArticleResult(index, null, Status.FAILED, message);
+    }
+}
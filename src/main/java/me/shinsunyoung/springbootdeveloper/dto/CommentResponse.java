@@ -0,0 +1,16 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// JPQL 생성자 표현식으로 바로 조회하는 댓글 DTO (Article 역참조를 갖지 않는다)
+@AllArgsConstructor
+@Getter
+public class CommentResponse {
+    private final Long id;
+    private final String author;
+    private final String content;
+    private final LocalDateTime createdAt;
+}
@@ -1,10 +1,16 @@
 package me.shinsunyoung.springbootdeveloper.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.Duration;
+
 @AllArgsConstructor
 @Getter
 public class CreateAccessTokenResponse {
     private String accessToken;
+    private String refreshToken; // 교체된 리프레시 토큰, 이전 토큰은 더 이상 사용할 수 없다 (동시 재발급으로 교체하지 않았으면 null)
+    @JsonIgnore
+    private Duration refreshTokenLifetime; // 교체된 리프레시 토큰의 남은 유효 기간 (쿠키 max-age)
 }
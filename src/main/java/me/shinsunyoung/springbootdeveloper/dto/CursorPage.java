@@ -0,0 +1,23 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@AllArgsConstructor
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor; // 다음(더 오래된) 페이지 커서, 없으면 null
+    private final String prevCursor; // 이전(더 최신) 페이지 커서, 없으면 null
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream()
+                .<R>map(mapper)
+                .toList();
+        return new CursorPage<>(mapped, nextCursor, prevCursor);
+    }
+}
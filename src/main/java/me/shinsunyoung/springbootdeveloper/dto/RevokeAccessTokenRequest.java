@@ -0,0 +1,10 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RevokeAccessTokenRequest {
+    private String token;
+}
@@ -0,0 +1,10 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class RevokeRefreshTokensResponse {
+    private int revoked;
+}
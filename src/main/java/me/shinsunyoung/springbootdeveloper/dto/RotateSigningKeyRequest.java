@@ -0,0 +1,11 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RotateSigningKeyRequest {
+    private String keyId;
+    private String secretKey; // Base64로 인코딩한 HMAC 키 (jwt.secret-key와 같은 형식)
+}
@@ -0,0 +1,20 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.repository.ArticleSummary;
+
+@Getter
+public class TrendingArticleResponse {
+
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final long views; // 구간 내 근사 조회수
+
+    public TrendingArticleResponse(ArticleSummary article, long views) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.author = article.getAuthor();
+        this.views = views;
+    }
+}
@@ -0,0 +1,19 @@
+package me.shinsunyoung.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.domain.User;
+
+// 캐시에 보관하는 사용자 스냅샷 (엔티티와 달리 불변이고 영속성 컨텍스트에 묶이지 않으며 비밀번호 해시를 담지 않는다)
+@AllArgsConstructor
+@Getter
+public class UserProfile {
+
+    private final Long id;
+    private final String email;
+    private final String nickname;
+
+    public UserProfile(User user) {
+        this(user.getId(), user.getEmail(), user.getNickname());
+    }
+}
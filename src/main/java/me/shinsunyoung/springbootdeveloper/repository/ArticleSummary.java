@@ -0,0 +1,12 @@
+package me.shinsunyoung.springbootdeveloper.repository;
+
+import java.time.LocalDateTime;
+
+// 글 목록용 요약 프로젝션, 본문(content) 컬럼은 조회하지 않는다
+public interface ArticleSummary {
+    Long getId();
+    String getTitle();
+    String getAuthor();
+    LocalDateTime getCreatedAt();
+    String getExcerpt();
+}
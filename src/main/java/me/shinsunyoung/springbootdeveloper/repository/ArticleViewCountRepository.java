@@ -0,0 +1,7 @@
+package me.shinsunyoung.springbootdeveloper.repository;
+
+import me.shinsunyoung.springbootdeveloper.domain.ArticleViewCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArticleViewCountRepository extends JpaRepository<ArticleViewCount, Long> {
+}
@@ -1,7 +1,52 @@
 package me.shinsunyoung.springbootdeveloper.repository;
 
+import jakarta.persistence.QueryHint;
 import me.shinsunyoung.springbootdeveloper.domain.Article;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface BlogRepository extends JpaRepository<Article, Long>{
+
+    String SUMMARY_SELECT = "select a.id as id, a.title as title, a.author as author, " +
+            "a.createdAt as createdAt, a.excerpt as excerpt from Article a ";
+
+    // 최신 글부터 첫 페이지 조회
+    @Query(SUMMARY_SELECT + "order by a.createdAt desc, a.id desc")
+    List<ArticleSummary> findFirstPage(Pageable pageable);
+
+    // 커서보다 오래된 글 조회 (다음 페이지)
+    @Query(SUMMARY_SELECT +
+            "where a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id) " +
+            "order by a.createdAt desc, a.id desc")
+    List<ArticleSummary> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    // 커서보다 최신 글 조회 (이전 페이지), 오래된 순으로 반환
+    @Query(SUMMARY_SELECT +
+            "where a.createdAt > :createdAt or (a.createdAt = :createdAt and a.id > :id) " +
+            "order by a.createdAt asc, a.id asc")
+    List<ArticleSummary> findPageBefore(@Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where a.id in :ids")
+    List<ArticleSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 전체 글을 id 순으로 스트리밍 조회 (서버 커서 + fetch size로 한 번에 일부만 가져온다)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from Article a order by a.id asc")
+    Stream<Article> streamAllByOrderByIdAsc();
 }
@@ -1,7 +1,29 @@
 package me.shinsunyoung.springbootdeveloper.repository;
 
 import me.shinsunyoung.springbootdeveloper.domain.Comment;
+import me.shinsunyoung.springbootdeveloper.dto.CommentResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    long countByArticleId(Long articleId);
+
+    // 댓글 id 기준 커서 페이지 조회, 엔티티 대신 DTO로 바로 조회
+    @Query("select new me.shinsunyoung.springbootdeveloper.dto.CommentResponse(c.id, c.author, c.content, c.createdAt) " +
+            "from Comment c where c.article.id = :articleId and c.id > :after " +
+            "order by c.id asc")
+    List<CommentResponse> findPageByArticleId(@Param("articleId") Long articleId,
+                                              @Param("after") Long after,
+                                              Pageable pageable);
+
+    @Query("select c.article.id as articleId, c.id as id, c.author as author, " +
+            "c.content as content, c.createdAt as createdAt " +
+            "from Comment c where c.article.id in :articleIds " +
+            "order by c.article.id asc, c.id asc")
+    List<CommentSummary> findSummariesByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
 }
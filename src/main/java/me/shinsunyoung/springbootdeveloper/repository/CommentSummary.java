@@ -0,0 +1,12 @@
+package me.shinsunyoung.springbootdeveloper.repository;
+
+import java.time.LocalDateTime;
+
+// 글 id와 함께 조회하는 댓글 프로젝션 (여러 글의 댓글을 한 번에 조회할 때 사용)
+public interface CommentSummary {
+    Long getArticleId();
+    Long getId();
+    String getAuthor();
+    String getContent();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,220 @@
+package me.shinsunyoung.springbootdeveloper.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 단일 인스턴스 배포용 메모리 저장소, 조회는 DB 왕복 없이 O(1)
+// ConcurrentHashMap의 버킷 단위 잠금이 샤딩 역할을 하고, 사용자별 교체는 compute로 원자적으로 처리한다
+// 주기적으로 스냅샷 파일에 저장하며 장애 시 유실 범위는 마지막 스냅샷 이후 한 주기 분량이다
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "blog.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Path snapshotPath;
+    private final Map<String, Entry> byHash = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> byUser = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+    // 파일 I/O 중 가상 스레드가 고정되지 않도록 synchronized 대신 사용
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    public InMemoryRefreshTokenStore(BlogProperties blogProperties) {
+        this.snapshotPath = Path.of(blogProperties.getRefreshToken().getSnapshotPath());
+    }
+
+    @Override
+    public void save(Long userId, String tokenHash, LocalDateTime expiresAt) {
+        Entry entry = new Entry(userId, tokenHash, expiresAt, null, null);
+        byUser.compute(userId, (id, previous) -> {
+            if (previous != null) {
+                byHash.remove(previous.tokenHash, previous);
+            }
+            byHash.put(tokenHash, entry);
+            return entry;
+        });
+        dirty = true;
+    }
+
+    @Override
+    public Optional<Long> findUserId(String tokenHash, LocalDateTime now) {
+        Entry entry = byHash.get(tokenHash);
+        if (entry == null || !entry.expiresAt.isAfter(now)) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.userId);
+    }
+
+    @Override
+    public boolean replace(Long userId, String currentHash, String newHash, LocalDateTime expiresAt, LocalDateTime now) {
+        boolean[] replaced = new boolean[1];
+        byUser.computeIfPresent(userId, (id, previous) -> {
+            if (!previous.tokenHash.equals(currentHash) || !previous.expiresAt.isAfter(now)) {
+                return previous;
+            }
+            Entry entry = new Entry(userId, newHash, expiresAt, previous.tokenHash, now);
+            byHash.remove(previous.tokenHash, previous);
+            byHash.put(newHash, entry);
+            replaced[0] = true;
+            return entry;
+        });
+        if (replaced[0]) {
+            dirty = true;
+        }
+        return replaced[0];
+    }
+
+    @Override
+    public boolean isPreviousToken(Long userId, String tokenHash, LocalDateTime rotatedAfter) {
+        Entry entry = byUser.get(userId);
+        return entry != null && tokenHash.equals(entry.previousHash) && entry.rotatedAt.isAfter(rotatedAfter);
+    }
+
+    @Override
+    public int deleteByUserId(Long userId) {
+        Entry removed = byUser.remove(userId);
+        if (removed == null) {
+            return 0;
+        }
+        byHash.remove(removed.tokenHash, removed);
+        dirty = true;
+        return 1;
+    }
+
+    // 메모리 저장소는 잠금 시간이 짧으므로 limit과 무관하게 한 번에 정리
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        int deleted = 0;
+        for (Entry entry : byUser.values()) {
+            if (!entry.expiresAt.isAfter(now) && byUser.remove(entry.userId, entry)) {
+                byHash.remove(entry.tokenHash, entry);
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            dirty = true;
+        }
+        return deleted;
+    }
+
+    @Override
+    public int deleteBatch(int limit) {
+        int deleted = byUser.size();
+        byUser.clear();
+        byHash.clear();
+        dirty = true;
+        return deleted;
+    }
+
+    // 만료된 토큰 정리 후 변경이 있으면 스냅샷 저장
+    @Scheduled(fixedDelayString = "#{@blogProperties.refreshToken.snapshotInterval.toMillis()}")
+    @PreDestroy
+    public void snapshot() {
+        snapshotLock.lock();
+        try {
+            writeSnapshot();
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private void writeSnapshot() {
+        deleteExpired(LocalDateTime.now(), Integer.MAX_VALUE);
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+
+        try {
+            write();
+        } catch (IOException e) { // 다음 주기에 다시 저장
+            dirty = true;
+            log.warn("Failed to write refresh token snapshot to {}", snapshotPath, e);
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 교체해 기동 시 반쯤 쓰인 스냅샷을 읽지 않도록 한다
+    private void write() throws IOException {
+        Path parent = snapshotPath.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "refresh-tokens", ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            Entry[] entries = byUser.values().toArray(new Entry[0]);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(entries.length);
+            for (Entry entry : entries) {
+                out.writeLong(entry.userId);
+                out.writeUTF(entry.tokenHash);
+                out.writeLong(entry.expiresAt.toEpochSecond(ZoneOffset.UTC));
+            }
+        }
+        Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("Ignoring refresh token snapshot {} with unknown version", snapshotPath);
+                return;
+            }
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                long userId = in.readLong();
+                String tokenHash = in.readUTF();
+                LocalDateTime expiresAt = LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC);
+                if (expiresAt.isAfter(now)) {
+                    save(userId, tokenHash, expiresAt);
+                }
+            }
+            dirty = false;
+            log.info("Loaded {} refresh tokens from {}", byUser.size(), snapshotPath);
+        } catch (IOException e) {
+            log.warn("Failed to read refresh token snapshot {}", snapshotPath, e);
+        }
+    }
+
+    private static final class Entry {
+        private final Long userId;
+        private final String tokenHash;
+        private final LocalDateTime expiresAt;
+        private final String previousHash;    // 스냅샷에는 저장하지 않는다 (유예 기간이 짧다)
+        private final LocalDateTime rotatedAt;
+
+        private Entry(Long userId, String tokenHash, LocalDateTime expiresAt,
+                      String previousHash, LocalDateTime rotatedAt) {
+            this.userId = userId;
+            this.tokenHash = tokenHash;
+            this.expiresAt = expiresAt;
+            this.previousHash = previousHash;
+            this.rotatedAt = rotatedAt;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package me.shinsunyoung.springbootdeveloper.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// 조회와 저장 모두 쿼리 한 번, 조회는 복제본 지연을 피하기 위해 readOnly로 표시하지 않는다
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "blog.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Transactional
+    @Override
+    public void save(Long userId, String tokenHash, LocalDateTime expiresAt) {
+        refreshTokenRepository.upsert(userId, tokenHash, expiresAt);
+    }
+
+    @Override
+    public Optional<Long> findUserId(String tokenHash, LocalDateTime now) {
+        return refreshTokenRepository.findUserIdByTokenHash(tokenHash, now);
+    }
+
+    @Transactional
+    @Override
+    public boolean replace(Long userId, String currentHash, String newHash, LocalDateTime expiresAt, LocalDateTime now) {
+        return refreshTokenRepository.replace(userId, currentHash, newHash, expiresAt, now) == 1;
+    }
+
+    @Override
+    public boolean isPreviousToken(Long userId, String tokenHash, LocalDateTime rotatedAfter) {
+        return refreshTokenRepository.existsPrevious(userId, tokenHash, rotatedAfter);
+    }
+
+    @Transactional
+    @Override
+    public int deleteByUserId(Long userId) {
+        return refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    @Transactional
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return refreshTokenRepository.deleteExpired(now, limit);
+    }
+
+    @Transactional
+    @Override
+    public int deleteBatch(int limit) {
+        return refreshTokenRepository.deleteBatch(limit);
+    }
+}
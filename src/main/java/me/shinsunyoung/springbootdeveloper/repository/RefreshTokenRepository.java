@@ -2,10 +2,54 @@ package me.shinsunyoung.springbootdeveloper.repository;
 
 import me.shinsunyoung.springbootdeveloper.domain.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByUserId(Long userID);
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
+
+    // 만료되지 않은 토큰의 사용자 ID만 조회 (token_hash 유니크 인덱스 사용)
+    @Query("select r.userId from RefreshToken r where r.tokenHash = :tokenHash and r.expiresAt > :now")
+    Optional<Long> findUserIdByTokenHash(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    // 사용자별 토큰을 한 번의 쿼리로 저장하거나 교체 (user_id 유니크 키 기준)
+    @Modifying
+    @Query(value = "insert into refresh_token (user_id, token_hash, expires_at) values (:userId, :tokenHash, :expiresAt) " +
+            "on duplicate key update token_hash = values(token_hash), expires_at = values(expires_at), " +
+            "previous_hash = null, rotated_at = null",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("tokenHash") String tokenHash,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 제시된 토큰이 여전히 사용자의 현재 토큰일 때만 새 토큰으로 교체 (compare-and-set)
+    // 동시 재발급 요청을 허용하기 위해 밀려난 토큰과 교체 시각을 남긴다
+    @Modifying
+    @Query("update RefreshToken r set r.previousHash = r.tokenHash, r.rotatedAt = :now, " +
+            "r.tokenHash = :newHash, r.expiresAt = :expiresAt " +
+            "where r.userId = :userId and r.tokenHash = :currentHash and r.expiresAt > :now")
+    int replace(@Param("userId") Long userId, @Param("currentHash") String currentHash,
+                @Param("newHash") String newHash, @Param("expiresAt") LocalDateTime expiresAt,
+                @Param("now") LocalDateTime now);
+
+    @Query("select count(r) > 0 from RefreshToken r " +
+            "where r.userId = :userId and r.previousHash = :tokenHash and r.rotatedAt > :rotatedAfter")
+    boolean existsPrevious(@Param("userId") Long userId, @Param("tokenHash") String tokenHash,
+                           @Param("rotatedAfter") LocalDateTime rotatedAfter);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // 잠금 범위를 줄이기 위해 한 번에 limit 행까지만 삭제
+    @Modifying
+    @Query(value = "delete from refresh_token where expires_at <= :now limit :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from refresh_token limit :limit", nativeQuery = true)
+    int deleteBatch(@Param("limit") int limit);
 }
@@ -0,0 +1,29 @@
+package me.shinsunyoung.springbootdeveloper.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// 리프레시 토큰 저장소, 토큰 원문이 아닌 SHA-256 다이제스트로 저장/조회한다
+// blog.refresh-token.store 값(jpa, memory)으로 구현을 선택
+public interface RefreshTokenStore {
+
+    // 사용자당 토큰 하나, 기존 토큰은 교체
+    void save(Long userId, String tokenHash, LocalDateTime expiresAt);
+
+    // 만료되지 않은 토큰의 사용자 ID
+    Optional<Long> findUserId(String tokenHash, LocalDateTime now);
+
+    // currentHash가 여전히 사용자의 토큰일 때만 newHash로 교체, 교체했으면 true
+    boolean replace(Long userId, String currentHash, String newHash, LocalDateTime expiresAt, LocalDateTime now);
+
+    // tokenHash가 rotatedAfter 이후 교체되어 밀려난 사용자의 직전 토큰인지
+    boolean isPreviousToken(Long userId, String tokenHash, LocalDateTime rotatedAfter);
+
+    int deleteByUserId(Long userId);
+
+    // 만료된 토큰을 최대 limit개 삭제하고 삭제한 수를 반환
+    int deleteExpired(LocalDateTime now, int limit);
+
+    // 토큰을 최대 limit개 삭제하고 삭제한 수를 반환
+    int deleteBatch(int limit);
+}
@@ -0,0 +1,22 @@
+package me.shinsunyoung.springbootdeveloper.repository;
+
+import me.shinsunyoung.springbootdeveloper.domain.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // since 이후에 폐기됐고 아직 만료되지 않은 토큰
+    @Query("select r from RevokedToken r where r.revokedAt >= :since and r.expiresAt > :now")
+    List<RevokedToken> findRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    // 잠금 범위를 줄이기 위해 한 번에 limit 행까지만 삭제
+    @Modifying
+    @Query(value = "delete from revoked_token where expires_at <= :now limit :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,56 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Function;
+
+// 글 상세 조회용 read-through 캐시 (W-TinyLFU 크기 제한 + TTL)
+@Component
+public class ArticleCache {
+
+    private final Cache<Long, ArticleDetail> cache;
+
+    public ArticleCache(BlogProperties blogProperties, MeterRegistry meterRegistry) {
+        BlogProperties.Cache properties = blogProperties.getCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+
+        // cache.gets(result=hit|miss), cache.evictions 등의 지표로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "articles");
+    }
+
+    public ArticleDetail get(Long id, Function<Long, ArticleDetail> loader) {
+        return cache.get(id, loader);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 무효화해서 커밋 전 데이터가 다시 캐시되지 않도록 한다
+    public void invalidate(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(id);
+            }
+        });
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
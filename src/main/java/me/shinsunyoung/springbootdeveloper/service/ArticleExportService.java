@@ -0,0 +1,91 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import me.shinsunyoung.springbootdeveloper.domain.Article;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleExportResponse;
+import me.shinsunyoung.springbootdeveloper.dto.CommentResponse;
+import me.shinsunyoung.springbootdeveloper.repository.BlogRepository;
+import me.shinsunyoung.springbootdeveloper.repository.CommentRepository;
+import me.shinsunyoung.springbootdeveloper.repository.CommentSummary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@Service
+public class ArticleExportService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final BlogRepository blogRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // 전체 글과 댓글을 NDJSON으로 출력 스트림에 바로 쓴다
+    // 글은 커서로 순차 조회하고, BATCH_SIZE개마다 댓글을 한 번에 조회한 뒤 영속성 컨텍스트를 비워 메모리를 일정하게 유지
+    @Transactional(readOnly = true)
+    public void exportTo(OutputStream out) throws IOException {
+        try (Stream<Article> articles = blogRepository.streamAllByOrderByIdAsc();
+             SequenceWriter writer = objectMapper.writer()
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+
+            long written = 0;
+            List<Article> batch = new ArrayList<>(BATCH_SIZE);
+            Iterator<Article> iterator = articles.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH_SIZE) {
+                    written += writeBatch(batch, writer);
+                }
+            }
+            written += writeBatch(batch, writer);
+            if (written == 0) { // 글이 없으면 빈 본문
+                return;
+            }
+        }
+        out.write('\n'); // 구분자는 값 사이에만 들어가므로 마지막 줄을 닫는다
+        out.flush();
+    }
+
+    private int writeBatch(List<Article> batch, SequenceWriter writer) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = batch.stream()
+                .map(Article::getId)
+                .toList();
+        Map<Long, List<CommentResponse>> commentsByArticle = new HashMap<>();
+        for (CommentSummary comment : commentRepository.findSummariesByArticleIdIn(ids)) {
+            commentsByArticle.computeIfAbsent(comment.getArticleId(), key -> new ArrayList<>())
+                    .add(new CommentResponse(comment.getId(), comment.getAuthor(),
+                            comment.getContent(), comment.getCreatedAt()));
+        }
+
+        for (Article article : batch) {
+            writer.write(new ArticleExportResponse(article,
+                    commentsByArticle.getOrDefault(article.getId(), List.of())));
+        }
+        writer.flush();
+
+        int size = batch.size();
+        entityManager.clear();
+        batch.clear();
+        return size;
+    }
+}
@@ -0,0 +1,181 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import me.shinsunyoung.springbootdeveloper.domain.ArticleViewCount;
+import me.shinsunyoung.springbootdeveloper.repository.ArticleViewCountRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 글 조회수를 메모리에서 LongAdder로 누적하고 주기적으로 한 번에 DB에 반영한다 (write-behind)
+// 장애 시 유실 범위는 마지막 반영 이후 한 주기 분량이다
+// 한동안 조회되지 않은 글의 카운터는 반영이 끝난 뒤 메모리에서 내린다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleViewCounter {
+
+    private static final String UPSERT_SQL = "insert into article_views (article_id, views) values (?, ?) " +
+            "on duplicate key update views = views + values(views)";
+
+    private final ArticleViewCountRepository articleViewCountRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlogProperties blogProperties;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    // synchronized 안에서 JDBC를 호출하면 가상 스레드가 캐리어 스레드에 고정되므로 ReentrantLock 사용
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public long increment(long articleId) {
+        Counter counter = counter(articleId);
+        counter.added.increment();
+        return counter.current();
+    }
+
+    // 저장된 조회수 + 아직 반영되지 않은 조회수
+    public long current(long articleId) {
+        return counter(articleId).current();
+    }
+
+    // 반영 도중 지우면 flush가 삭제된 글의 행을 다시 만들 수 있으므로 flushLock 안에서 지운다
+    public void remove(long articleId) {
+        flushLock.lock();
+        try {
+            counters.remove(articleId);
+            if (articleViewCountRepository.existsById(articleId)) {
+                articleViewCountRepository.deleteById(articleId);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@blogProperties.views.flushInterval.toMillis()}")
+    @PreDestroy
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushCounters();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushCounters() {
+        List<Long> ids = new ArrayList<>();
+        List<Long> totals = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+        Map<Long, Counter> idle = new HashMap<>();
+        long now = System.nanoTime();
+        long idleTimeout = blogProperties.getViews().getIdleTimeout().toNanos();
+
+        counters.forEach((id, counter) -> {
+            long total = counter.added.sum();
+            long delta = total - counter.flushed;
+            if (delta > 0) {
+                ids.add(id);
+                totals.add(total);
+                args.add(new Object[]{id, delta});
+                counter.lastActive = now;
+            } else if (now - counter.lastActive >= idleTimeout) {
+                idle.put(id, counter);
+            }
+        });
+
+        if (!args.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+            } catch (RuntimeException e) { // 다음 주기에 다시 반영, 반영하지 못한 상태에서는 내리지 않는다
+                log.warn("Failed to flush {} article view counts", args.size(), e);
+                return;
+            }
+
+            for (int i = 0; i < ids.size(); i++) {
+                Counter counter = counters.get(ids.get(i));
+                if (counter != null) {
+                    counter.flushed = totals.get(i);
+                }
+            }
+            refreshBases(ids);
+        }
+        idle.forEach(this::evict);
+    }
+
+    // 다른 인스턴스가 반영한 조회수도 보이도록 저장된 값으로 기준값을 갱신
+    private void refreshBases(List<Long> ids) {
+        for (ArticleViewCount viewCount : articleViewCountRepository.findAllById(ids)) {
+            Counter counter = counters.get(viewCount.getArticleId());
+            if (counter != null) {
+                counter.rebase(viewCount.getViews());
+            }
+        }
+    }
+
+    // 내리는 사이에 들어온 조회수는 새 카운터로 옮겨 다음 주기에 반영
+    private void evict(Long articleId, Counter counter) {
+        if (!counters.remove(articleId, counter)) {
+            return;
+        }
+        long late = counter.added.sum() - counter.flushed;
+        if (late > 0) {
+            long persisted = counter.base + counter.flushed;
+            boolean loaded = counter.loaded;
+            counters.computeIfAbsent(articleId, id -> loaded ? Counter.loaded(persisted) : new Counter())
+                    .added.add(late);
+        }
+    }
+
+    // 카운터는 먼저 비어 있는 채로 올리고 저장된 조회수는 글마다 한 번만 읽는다
+    // (같은 글의 첫 조회가 몰려도 쿼리는 하나이고, 다른 글의 조회는 기다리지 않는다)
+    private Counter counter(long articleId) {
+        Counter counter = counters.computeIfAbsent(articleId, id -> new Counter());
+        if (!counter.loaded) {
+            counter.loadLock.lock();
+            try {
+                if (!counter.loaded) {
+                    counter.rebase(articleViewCountRepository.findById(articleId)
+                            .map(ArticleViewCount::getViews)
+                            .orElse(0L));
+                }
+            } finally {
+                counter.loadLock.unlock();
+            }
+        }
+        return counter;
+    }
+
+    private static class Counter {
+        private final LongAdder added = new LongAdder(); // 기동 이후 누적 조회수
+        private final ReentrantLock loadLock = new ReentrantLock();
+        private volatile boolean loaded;                 // 저장된 조회수를 읽었는지
+        private volatile long base;                      // 기동 이전(및 다른 인스턴스)에 저장된 조회수
+        private volatile long flushed;                   // added 중 DB에 반영된 양, flush 스레드만 갱신
+        private long lastActive = System.nanoTime();     // 마지막으로 반영할 조회수가 있던 시각, flush 스레드만 사용
+
+        private static Counter loaded(long persisted) {
+            Counter counter = new Counter();
+            counter.rebase(persisted);
+            return counter;
+        }
+
+        private void rebase(long persisted) {
+            base = persisted - flushed;
+            loaded = true;
+        }
+
+        private long current() {
+            return base + added.sum();
+        }
+    }
+}
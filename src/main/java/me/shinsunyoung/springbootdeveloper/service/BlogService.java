@@ -1,19 +1,42 @@
 package me.shinsunyoung.springbootdeveloper.service;
 
-import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import me.shinsunyoung.springbootdeveloper.config.datasource.RoutingHint;
 import me.shinsunyoung.springbootdeveloper.config.error.exception.ArticleNotFoundException;
 import me.shinsunyoung.springbootdeveloper.domain.Article;
 import me.shinsunyoung.springbootdeveloper.domain.Comment;
 import me.shinsunyoung.springbootdeveloper.dto.AddArticleRequest;
 import me.shinsunyoung.springbootdeveloper.dto.AddCommentRequest;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleCursor;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleDetail;
+import me.shinsunyoung.springbootdeveloper.dto.BulkArticleResult;
+import me.shinsunyoung.springbootdeveloper.dto.CommentResponse;
+import me.shinsunyoung.springbootdeveloper.dto.CursorPage;
+import me.shinsunyoung.springbootdeveloper.dto.TrendingArticleResponse;
 import me.shinsunyoung.springbootdeveloper.dto.UpdateArticleRequest;
+import me.shinsunyoung.springbootdeveloper.repository.ArticleSummary;
 import me.shinsunyoung.springbootdeveloper.repository.BlogRepository;
 import me.shinsunyoung.springbootdeveloper.repository.CommentRepository;
+import me.shinsunyoung.springbootdeveloper.util.ExcerptUtil;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @RequiredArgsConstructor
 @Service
@@ -21,25 +44,231 @@ public class BlogService {
 
     private final BlogRepository blogRepository;
     private final CommentRepository commentRepository;
+    private final BlogProperties blogProperties;
+    private final ArticleCache articleCache;
+    private final ArticleViewCounter articleViewCounter;
+    private final TrendingArticles trendingArticles;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Validator validator;
 
     public Article save(AddArticleRequest request, String userName) {
-        return blogRepository.save(request.toEntity(userName));
+        Article article = request.toEntity(userName);
+        article.updateExcerpt(ExcerptUtil.excerpt(request.getContent()));
+
+        return blogRepository.save(article);
+    }
+
+    // 글 대량 등록: batchSize 단위로 트랜잭션을 나눠 JDBC 배치로 저장하고, 저장한 엔티티는 바로 비워 메모리를 일정하게 유지
+    public List<BulkArticleResult> importArticles(Iterator<AddArticleRequest> requests, String userName) {
+        int batchSize = blogProperties.getBulk().getBatchSize();
+        List<BulkArticleResult> results = new ArrayList<>();
+        List<Article> batch = new ArrayList<>(batchSize);
+        List<Integer> batchIndexes = new ArrayList<>(batchSize);
+
+        int index = 0;
+        while (true) {
+            AddArticleRequest request;
+            try {
+                if (!requests.hasNext()) {
+                    break;
+                }
+                request = requests.next();
+            } catch (RuntimeException e) { // 본문 형식이 깨진 경우 그 지점에서 중단
+                results.add(BulkArticleResult.failed(index, "malformed input"));
+                break;
+            }
+
+            if (request == null) {
+                results.add(BulkArticleResult.failed(index++, "empty item"));
+                continue;
+            }
+
+            Set<ConstraintViolation<AddArticleRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                results.add(BulkArticleResult.failed(index++, violations.iterator().next().getMessage()));
+                continue;
+            }
+
+            Article article = request.toEntity(userName);
+            article.updateExcerpt(ExcerptUtil.excerpt(request.getContent()));
+            batch.add(article);
+            batchIndexes.add(index++);
+
+            if (batch.size() == batchSize) {
+                flushBatch(batch, batchIndexes, results);
+            }
+        }
+        flushBatch(batch, batchIndexes, results);
+
+        results.sort(Comparator.comparingInt(BulkArticleResult::getIndex));
+        return results;
+    }
+
+    private void flushBatch(List<Article> batch, List<Integer> batchIndexes, List<BulkArticleResult> results) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> blogRepository.saveAll(batch));
+            for (int i = 0; i < batch.size(); i++) {
+                results.add(BulkArticleResult.created(batchIndexes.get(i), batch.get(i).getId()));
+            }
+        } catch (RuntimeException e) { // 배치 단위로 롤백되므로 배치 전체를 실패 처리
+            for (Integer index : batchIndexes) {
+                results.add(BulkArticleResult.failed(index, "batch insert failed"));
+            }
+        } finally {
+            entityManager.clear();
+            batch.clear();
+            batchIndexes.clear();
+        }
+    }
+
+    // (created_at, id) 키셋 페이지네이션으로 글 목록 조회
+    // after: 해당 커서보다 오래된 글, before: 해당 커서보다 최신 글, 둘 다 없으면 첫 페이지
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleSummary> findPage(String after, String before, Integer size) {
+        int pageSize = resolvePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1); // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+
+        if (before != null) {
+            ArticleCursor cursor = ArticleCursor.decode(before);
+            List<ArticleSummary> rows = new ArrayList<>(
+                    blogRepository.findPageBefore(cursor.getCreatedAt(), cursor.getId(), limit));
+            boolean hasPrev = rows.size() > pageSize;
+            List<ArticleSummary> items = rows.subList(0, Math.min(rows.size(), pageSize));
+            Collections.reverse(items);
+
+            return toPage(items, true, hasPrev);
+        }
+
+        List<ArticleSummary> rows;
+        boolean hasPrev;
+        if (after != null) {
+            ArticleCursor cursor = ArticleCursor.decode(after);
+            rows = blogRepository.findPageAfter(cursor.getCreatedAt(), cursor.getId(), limit);
+            hasPrev = true;
+        } else {
+            rows = blogRepository.findFirstPage(limit);
+            hasPrev = false;
+        }
+        boolean hasNext = rows.size() > pageSize;
+
+        return toPage(rows.subList(0, Math.min(rows.size(), pageSize)), hasNext, hasPrev);
+    }
+
+    private int resolvePageSize(Integer size) {
+        BlogProperties.Pagination pagination = blogProperties.getPagination();
+        if (size == null || size < 1) {
+            return pagination.getDefaultSize();
+        }
+        return Math.min(size, pagination.getMaxSize());
+    }
+
+    private int resolveCommentPageSize(Integer size) {
+        BlogProperties.Pagination pagination = blogProperties.getPagination();
+        if (size == null || size < 1) {
+            return pagination.getCommentSize();
+        }
+        return Math.min(size, pagination.getMaxSize());
     }
 
-    public List<Article> findAll() {
-        return blogRepository.findAll();
+    private static CursorPage<ArticleSummary> toPage(List<ArticleSummary> items, boolean hasNext, boolean hasPrev) {
+        if (items.isEmpty()) {
+            return new CursorPage<>(items, null, null);
+        }
+        String nextCursor = hasNext ? ArticleCursor.of(items.get(items.size() - 1)).encode() : null;
+        String prevCursor = hasPrev ? ArticleCursor.of(items.get(0)).encode() : null;
+
+        return new CursorPage<>(items, nextCursor, prevCursor);
     }
 
+    @Transactional(readOnly = true)
     public Article findById(long id) {
         return blogRepository.findById(id)
                 .orElseThrow(ArticleNotFoundException::new);
     }
 
+    // 캐시를 먼저 확인하고 없을 때만 DB에서 읽어 캐시에 적재
+    // 캐시에 들어가는 값은 TTL 동안 남으므로 복제 지연이 없는 primary에서 읽는다
+    // 트랜잭션은 캐시 미스일 때만 로더 안에서 연다 (캐시 적중, 304 응답은 커넥션을 빌리지 않는다)
+    public ArticleDetail findDetailById(long id) {
+        return articleCache.get(id, key -> RoutingHint.usePrimary(() -> readOnly(() -> loadDetail(key))));
+    }
+
+    private <T> T readOnly(Supplier<T> action) {
+        TransactionTemplate readOnlyTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTemplate.setReadOnly(true);
+        return readOnlyTemplate.execute(status -> action.get());
+    }
+
+    private ArticleDetail loadDetail(Long id) {
+        Article article = findById(id);
+        return new ArticleDetail(article, commentRepository.countByArticleId(id));
+    }
+
+    // 조회수 1 증가 후 현재 조회수 반환 (DB 반영은 ArticleViewCounter가 주기적으로 처리)
+    public long increaseViews(long id) {
+        return articleViewCounter.increment(id);
+    }
+
+    public long findViews(long id) {
+        return articleViewCounter.current(id);
+    }
+
+    // 인기 글 집계에 읽음 1회 반영, 본문을 실제로 내려준 경우에만 호출한다 (304, 수정 화면 제외)
+    public void recordRead(long id) {
+        trendingArticles.record(id);
+    }
+
+    // 구간 내 많이 읽힌 글, 삭제된 글은 제외된다
+    // 집계가 비어 있으면 DB에 가지 않으므로 트랜잭션은 저장소 조회에만 둔다
+    public List<TrendingArticleResponse> findTrending(TrendingWindow window, int limit) {
+        List<TrendingArticles.Entry> entries = trendingArticles.top(window, limit);
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ArticleSummary> summaries = new HashMap<>();
+        List<Long> ids = entries.stream()
+                .map(TrendingArticles.Entry::getArticleId)
+                .toList();
+        blogRepository.findSummariesByIdIn(ids)
+                .forEach(summary -> summaries.put(summary.getId(), summary));
+
+        return entries.stream()
+                .filter(entry -> summaries.containsKey(entry.getArticleId()))
+                .map(entry -> new TrendingArticleResponse(summaries.get(entry.getArticleId()), entry.getCount()))
+                .toList();
+    }
+
+    // 댓글 id 기준 커서 페이지 조회
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponse> findComments(long articleId, Long after, Integer size) {
+        int pageSize = resolveCommentPageSize(size);
+        List<CommentResponse> rows = commentRepository.findPageByArticleId(
+                articleId, after == null ? 0L : after, PageRequest.of(0, pageSize + 1));
+        // 빈 페이지일 때만 글이 있는지 확인한다 (댓글이 있으면 글도 있다)
+        if (rows.isEmpty() && !blogRepository.existsById(articleId)) {
+            throw new ArticleNotFoundException();
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CommentResponse> items = rows.subList(0, Math.min(rows.size(), pageSize));
+        String nextCursor = hasNext ? String.valueOf(items.get(items.size() - 1).getId()) : null;
+
+        return new CursorPage<>(items, nextCursor, null);
+    }
+
     public void delete(long id) {
         Article article = blogRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
         authorizeArticleAuthor(article);
         blogRepository.deleteById(id);
+        articleCache.invalidate(id);
+        articleViewCounter.remove(id);
     }
 
     @Transactional
@@ -49,6 +278,8 @@ public class BlogService {
 
         authorizeArticleAuthor(article);
         article.update(request.getTitle(), request.getContent());
+        article.updateExcerpt(ExcerptUtil.excerpt(request.getContent()));
+        articleCache.invalidate(id);
 
         return article;
 
@@ -67,6 +298,9 @@ public class BlogService {
         Article article = blogRepository.findById(request.getArticleId())
                 .orElseThrow(() -> new IllegalArgumentException("not found: " + request.getArticleId()));
 
-        return (Comment) commentRepository.save(request.toEntity(userName, article));
+        Comment comment = commentRepository.save(request.toEntity(userName, article));
+        articleCache.invalidate(article.getId());
+
+        return comment;
     }
 }
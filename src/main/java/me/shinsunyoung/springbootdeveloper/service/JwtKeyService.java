@@ -0,0 +1,38 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import lombok.RequiredArgsConstructor;
+import me.shinsunyoung.springbootdeveloper.config.error.exception.InvalidSigningKeyException;
+import me.shinsunyoung.springbootdeveloper.config.jwt.TokenProvider;
+import me.shinsunyoung.springbootdeveloper.config.jwt.VerifiedTokenCache;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+// 실행 중 JWT 서명 키 교체/제거 (검증 캐시와 함께 처리)
+@RequiredArgsConstructor
+@Service
+public class JwtKeyService {
+
+    private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public void rotate(String keyId, String secretKey) {
+        if (!StringUtils.hasText(keyId) || !StringUtils.hasText(secretKey)) {
+            throw new InvalidSigningKeyException();
+        }
+        try {
+            tokenProvider.rotateKey(keyId, secretKey);
+        } catch (IllegalArgumentException e) { // 이미 등록된 kid이거나 Base64가 아닌 키
+            throw new InvalidSigningKeyException();
+        }
+    }
+
+    // 제거한 키로 서명된 토큰이 캐시에 남아 있으면 계속 통과하므로 검증 캐시를 비운다
+    public void retire(String keyId) {
+        try {
+            tokenProvider.retireKey(keyId);
+        } catch (IllegalArgumentException e) { // 현재 서명 키
+            throw new InvalidSigningKeyException();
+        }
+        verifiedTokenCache.invalidateAll();
+    }
+}
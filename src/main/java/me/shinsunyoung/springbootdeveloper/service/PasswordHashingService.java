@@ -0,0 +1,40 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import me.shinsunyoung.springbootdeveloper.config.error.exception.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+// 비밀번호 해시를 전용 풀에서 수행, 풀이 포화되면 기다리지 않고 ServiceBusyException(503)
+@Service
+public class PasswordHashingService {
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final Executor executor;
+    private final Timer hashTimer;
+
+    public PasswordHashingService(BCryptPasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashingExecutor") Executor executor,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.hashTimer = Timer.builder("password.hashing")
+                .description("BCrypt hash time on the password hashing pool")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> hashTimer.record(() -> passwordEncoder.encode(rawPassword)), executor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException();
+        }
+    }
+}
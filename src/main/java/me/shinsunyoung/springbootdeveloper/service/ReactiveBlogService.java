@@ -0,0 +1,88 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import lombok.RequiredArgsConstructor;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import me.shinsunyoung.springbootdeveloper.config.error.exception.ArticleNotFoundException;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleDetail;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleListViewResponse;
+import me.shinsunyoung.springbootdeveloper.dto.ArticleResponse;
+import me.shinsunyoung.springbootdeveloper.dto.CommentResponse;
+import me.shinsunyoung.springbootdeveloper.repository.ArticleSummary;
+import me.shinsunyoung.springbootdeveloper.repository.BlogRepository;
+import me.shinsunyoung.springbootdeveloper.repository.CommentRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+// /rx/** 읽기 API용 서비스
+// JPA는 블로킹이므로 각 조회를 boundedElastic 스케줄러에서 실행하고, 목록은 키셋 페이지 단위로 이어 붙여 흘려보낸다
+// 다음 페이지는 구독자가 앞 페이지를 소비해 요청(backpressure)할 때만 조회하므로 전체 목록을 메모리에 모으지 않는다
+@RequiredArgsConstructor
+@Service
+public class ReactiveBlogService {
+
+    private final BlogService blogService;
+    private final BlogRepository blogRepository;
+    private final CommentRepository commentRepository;
+    private final BlogProperties blogProperties;
+
+    // 최신 글부터 전체 글 요약을 순서대로 스트리밍
+    public Flux<ArticleListViewResponse> streamArticles() {
+        PageRequest limit = PageRequest.of(0, blogProperties.getPagination().getMaxSize());
+
+        return Mono.fromCallable(() -> blogRepository.findFirstPage(limit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .expand(rows -> {
+                    if (rows.size() < limit.getPageSize()) {
+                        return Mono.empty();
+                    }
+                    ArticleSummary last = rows.get(rows.size() - 1);
+                    return Mono.fromCallable(() -> blogRepository.findPageAfter(last.getCreatedAt(), last.getId(), limit))
+                            .subscribeOn(Schedulers.boundedElastic());
+                })
+                .flatMapIterable(rows -> rows)
+                .map(ArticleListViewResponse::new);
+    }
+
+    // GET /api/articles/{id}와 같이 캐시를 거쳐 조회하고 현재 조회수를 함께 반환
+    // 조건부 요청(304)이 없으므로 본문을 내려주는 모든 조회를 인기 글 집계에 반영한다, 조회수 증가는 글 화면에서만 한다
+    public Mono<ArticleResponse> findArticle(long id) {
+        return Mono.fromCallable(() -> {
+                    ArticleDetail article = blogService.findDetailById(id);
+                    blogService.recordRead(id);
+                    return new ArticleResponse(article, blogService.findViews(id));
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 글의 댓글을 id 순으로 스트리밍
+    // 첫 페이지가 비었을 때만 글이 있는지 확인해 GET /api/articles/{id}/comments처럼 없는 글은 404로 응답한다
+    public Flux<CommentResponse> streamComments(long articleId) {
+        PageRequest limit = PageRequest.of(0, blogProperties.getPagination().getMaxSize());
+
+        return findComments(articleId, 0L, limit)
+                .flatMap(rows -> rows.isEmpty() ? requireArticle(articleId).thenReturn(rows) : Mono.just(rows))
+                .expand(rows -> {
+                    if (rows.size() < limit.getPageSize()) {
+                        return Mono.empty();
+                    }
+                    return findComments(articleId, rows.get(rows.size() - 1).getId(), limit);
+                })
+                .flatMapIterable(rows -> rows);
+    }
+
+    private Mono<Void> requireArticle(long articleId) {
+        return Mono.fromCallable(() -> blogRepository.existsById(articleId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(exists -> exists ? Mono.<Void>empty() : Mono.error(new ArticleNotFoundException()));
+    }
+
+    private Mono<List<CommentResponse>> findComments(long articleId, long after, PageRequest limit) {
+        return Mono.fromCallable(() -> commentRepository.findPageByArticleId(articleId, after, limit))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
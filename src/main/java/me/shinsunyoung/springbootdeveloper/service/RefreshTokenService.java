@@ -1,17 +1,66 @@
 package me.shinsunyoung.springbootdeveloper.service;
 
 import lombok.RequiredArgsConstructor;
-import me.shinsunyoung.springbootdeveloper.domain.RefreshToken;
-import me.shinsunyoung.springbootdeveloper.repository.RefreshTokenRepository;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import me.shinsunyoung.springbootdeveloper.repository.RefreshTokenStore;
+import me.shinsunyoung.springbootdeveloper.util.TokenDigestUtil;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 @RequiredArgsConstructor
 @Service
 public class RefreshTokenService {
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final BlogProperties blogProperties;
+
+    // 토큰 원문은 저장하지 않고 다이제스트만 보관
+    public void save(Long userId, String refreshToken, Duration duration) {
+        refreshTokenStore.save(userId, TokenDigestUtil.sha256(refreshToken), LocalDateTime.now().plus(duration));
+    }
+
+    // 제시된 토큰이 사용자의 현재 토큰일 때만 새 토큰으로 교체, 교체했으면 true
+    public boolean rotate(Long userId, String currentToken, String newToken, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        return refreshTokenStore.replace(userId, TokenDigestUtil.sha256(currentToken),
+                TokenDigestUtil.sha256(newToken), now.plus(duration), now);
+    }
+
+    // 제시된 토큰이 유예 기간 안에 교체된 직전 토큰인지 (동시 재발급 요청 허용)
+    public boolean isRecentlyRotated(Long userId, String token) {
+        Duration grace = blogProperties.getRefreshToken().getReuseGracePeriod();
+        if (grace.isZero() || grace.isNegative()) {
+            return false;
+        }
+        return refreshTokenStore.isPreviousToken(userId, TokenDigestUtil.sha256(token), LocalDateTime.now().minus(grace));
+    }
+
+    public int revokeByUserId(Long userId) {
+        return refreshTokenStore.deleteByUserId(userId);
+    }
+
+    // 한 번에 모두 지우지 않고 배치 단위 트랜잭션으로 나눠 삭제
+    public int revokeAll() {
+        int batchSize = blogProperties.getRefreshToken().getSweepBatchSize();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenStore.deleteBatch(batchSize);
+            total += deleted;
+        } while (deleted >= batchSize);
+        return total;
+    }
 
-    public RefreshToken findByRefreshToken(String refreshToken) {
-        return refreshTokenRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
+    public int deleteExpired() {
+        int batchSize = blogProperties.getRefreshToken().getSweepBatchSize();
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenStore.deleteExpired(now, batchSize);
+            total += deleted;
+        } while (deleted >= batchSize);
+        return total;
     }
 }
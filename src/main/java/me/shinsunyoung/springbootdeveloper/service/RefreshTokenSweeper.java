@@ -0,0 +1,27 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 만료된 리프레시 토큰을 주기적으로 배치 삭제해 테이블이 계속 커지지 않도록 한다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RefreshTokenSweeper {
+
+    private final RefreshTokenService refreshTokenService;
+
+    @Scheduled(fixedDelayString = "#{@blogProperties.refreshToken.sweepInterval.toMillis()}")
+    public void sweep() {
+        try {
+            int deleted = refreshTokenService.deleteExpired();
+            if (deleted > 0) {
+                log.info("Deleted {} expired refresh tokens", deleted);
+            }
+        } catch (RuntimeException e) { // 다음 주기에 다시 시도
+            log.warn("Failed to delete expired refresh tokens", e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import me.shinsunyoung.springbootdeveloper.config.datasource.RoutingHint;
+import me.shinsunyoung.springbootdeveloper.config.jwt.TokenProvider;
+import me.shinsunyoung.springbootdeveloper.config.jwt.VerifiedTokenCache;
+import me.shinsunyoung.springbootdeveloper.domain.RevokedToken;
+import me.shinsunyoung.springbootdeveloper.repository.RevokedTokenRepository;
+import me.shinsunyoung.springbootdeveloper.util.BloomFilter;
+import me.shinsunyoung.springbootdeveloper.util.TokenDigestUtil;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 액세스 토큰 폐기 목록
+// 폐기되지 않은 토큰(대부분의 요청)은 메모리의 Bloom 필터만으로 DB 조회 없이 판정하고, 양성일 때만 revoked_token 테이블을 확인한다
+// 필터는 토큰 만료 시각의 시간 단위 버킷으로 나눠, 버킷의 토큰이 모두 만료되면 버킷째 버린다
+// 다른 인스턴스에서 폐기한 토큰은 다음 재적재 주기(blog.revocation.refresh-interval)부터 반영된다
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final long BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+    // 커밋이 늦게 보인 행을 놓치지 않도록 재적재 구간을 겹친다 (필터 추가는 멱등)
+    private static final Duration RELOAD_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TransactionTemplate transactionTemplate;
+    private final BlogProperties.Revocation properties;
+
+    private final Map<Long, BloomFilter> buckets = new ConcurrentHashMap<>();
+    // Bloom 필터 양성에 대한 정확한 판정 결과, 재적재 주기 동안만 유지
+    private final Cache<String, Boolean> exactResults;
+    private final Counter bloomPositives;
+    private volatile LocalDateTime loadedUntil;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository, TokenProvider tokenProvider,
+                                  VerifiedTokenCache verifiedTokenCache, TransactionTemplate transactionTemplate,
+                                  BlogProperties blogProperties, MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenProvider = tokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = blogProperties.getRevocation();
+        this.exactResults = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(properties.getRefreshInterval())
+                .build();
+        this.bloomPositives = Counter.builder("auth.revocation.bloom.positives")
+                .description("Bloom filter hits that required an exact revocation lookup")
+                .register(meterRegistry);
+    }
+
+    // tokenHash: TokenDigestUtil.sha256(token), expiration: 검증된 클레임의 exp
+    public boolean isRevoked(String tokenHash, Date expiration) {
+        if (expiration == null) {
+            return false;
+        }
+        BloomFilter filter = buckets.get(bucketOf(expiration.getTime()));
+        if (filter == null || !filter.mightContain(hash1(tokenHash), hash2(tokenHash))) {
+            return false;
+        }
+
+        bloomPositives.increment();
+        return exactResults.get(tokenHash,
+                digest -> RoutingHint.usePrimary(() -> revokedTokenRepository.existsById(digest)));
+    }
+
+    // 유효한 토큰만 폐기 목록에 추가, 이미 만료됐거나 위조된 토큰이면 false
+    public boolean revoke(String token) {
+        Claims claims = tokenProvider.getVerifiedClaims(token);
+        if (claims == null || claims.getExpiration() == null) {
+            return false;
+        }
+
+        String tokenHash = TokenDigestUtil.sha256(token);
+        LocalDateTime expiresAt = toLocalDateTime(claims.getExpiration().getTime());
+        transactionTemplate.executeWithoutResult(status -> revokedTokenRepository.save(
+                new RevokedToken(tokenHash, claims.get("id", Long.class), expiresAt, LocalDateTime.now())));
+
+        add(tokenHash, claims.getExpiration().getTime());
+        exactResults.put(tokenHash, Boolean.TRUE);
+        verifiedTokenCache.invalidate(token);
+        return true;
+    }
+
+    // 처음에는 만료되지 않은 전체 폐기 목록을, 이후에는 마지막 적재 이후 추가된 행만 읽는다
+    @Scheduled(fixedDelayString = "#{@blogProperties.revocation.refreshInterval.toMillis()}")
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = loadedUntil == null ? LocalDateTime.of(1970, 1, 1, 0, 0) : loadedUntil.minus(RELOAD_OVERLAP);
+
+        List<RevokedToken> revoked;
+        try {
+            revoked = revokedTokenRepository.findRevokedSince(since, now);
+        } catch (RuntimeException e) { // 다음 주기에 같은 구간부터 다시 읽는다
+            log.warn("Failed to reload revoked tokens", e);
+            return;
+        }
+
+        for (RevokedToken token : revoked) {
+            add(token.getTokenHash(), token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        if (!revoked.isEmpty()) {
+            exactResults.invalidateAll(); // 음성으로 기억해 둔 결과가 새 폐기 목록과 어긋나지 않도록
+        }
+        loadedUntil = now;
+
+        long currentBucket = bucketOf(System.currentTimeMillis());
+        buckets.keySet().removeIf(bucket -> bucket < currentBucket);
+    }
+
+    // 만료된 폐기 행을 배치 단위 트랜잭션으로 삭제
+    @Scheduled(fixedDelayString = "#{@blogProperties.revocation.sweepInterval.toMillis()}")
+    public void deleteExpired() {
+        int batchSize = properties.getSweepBatchSize();
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            Integer deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> revokedTokenRepository.deleteExpired(now, batchSize));
+            } while (deleted != null && deleted >= batchSize);
+        } catch (RuntimeException e) { // 다음 주기에 다시 시도
+            log.warn("Failed to delete expired revoked tokens", e);
+        }
+    }
+
+    private void add(String tokenHash, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        buckets.computeIfAbsent(bucketOf(expiresAtMillis),
+                        bucket -> new BloomFilter(properties.getExpectedPerHour(), properties.getFalsePositiveRate()))
+                .put(hash1(tokenHash), hash2(tokenHash));
+    }
+
+    private static long bucketOf(long epochMillis) {
+        return epochMillis / BUCKET_MILLIS;
+    }
+
+    // SHA-256 16진수 다이제스트의 앞 128비트를 두 개의 해시 값으로 사용
+    private static long hash1(String tokenHash) {
+        return Long.parseUnsignedLong(tokenHash, 0, 16, 16);
+    }
+
+    private static long hash2(String tokenHash) {
+        return Long.parseUnsignedLong(tokenHash, 16, 32, 16) | 1; // 홀수로 만들어 모든 위치가 같아지는 경우를 막는다
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -1,27 +1,62 @@
 package me.shinsunyoung.springbootdeveloper.service;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.shinsunyoung.springbootdeveloper.config.error.exception.InvalidRefreshTokenException;
 import me.shinsunyoung.springbootdeveloper.config.jwt.TokenProvider;
-import me.shinsunyoung.springbootdeveloper.domain.User;
+import me.shinsunyoung.springbootdeveloper.dto.CreateAccessTokenResponse;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class TokenService {
 
     private final TokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
-    private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
 
-    public String createNewAccessToken(String refreshToken) {
-        if(!tokenProvider.validToken(refreshToken)) {
-            throw new IllegalArgumentException("Unexpected token");
+    // 새 액세스 토큰과 함께 리프레시 토큰도 교체 (저장소 왕복 한 번, 메모리 저장소면 0번)
+    // 사용자 정보는 검증된 리프레시 토큰의 클레임을 사용하고, 새 리프레시 토큰은 기존 토큰의 만료 시각을 넘지 않는다
+    public CreateAccessTokenResponse createNewAccessToken(String refreshToken) {
+        Claims claims = tokenProvider.getVerifiedClaims(refreshToken);
+        if(claims == null || claims.get("id", Long.class) == null) {
+            throw new InvalidRefreshTokenException();
         }
-        Long userId = refreshTokenService.findByRefreshToken(refreshToken).getUserId();
-        User user = userService.findById(userId);
+        Long userId = claims.get("id", Long.class);
+        Duration remaining = Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis());
 
-        return tokenProvider.generateToken(user, Duration.ofHours(2));
+        String newRefreshToken = tokenProvider.generateRefreshToken(userId, claims.getSubject(), remaining);
+        if(!refreshTokenService.rotate(userId, refreshToken, newRefreshToken, remaining)) {
+            // 여러 요청이 같은 토큰으로 동시에 재발급한 경우: 먼저 온 요청이 교체했으므로 액세스 토큰만 발급
+            if(refreshTokenService.isRecentlyRotated(userId, refreshToken)) {
+                return new CreateAccessTokenResponse(createAccessToken(userId, claims.getSubject()), null, null);
+            }
+            // typ=refresh인데 현재 토큰이 아님 = 이미 교체된 토큰의 재사용, 탈취로 보고 사용자의 토큰을 폐기
+            // (액세스 토큰이나 typ 클레임이 없는 이전 토큰은 거부만 한다)
+            if(tokenProvider.isRefreshToken(claims)) {
+                log.warn("Refresh token reuse detected for user {}, revoking", userId);
+                refreshTokenService.revokeByUserId(userId);
+            }
+            throw new InvalidRefreshTokenException();
+        }
+
+        return new CreateAccessTokenResponse(createAccessToken(userId, claims.getSubject()), newRefreshToken, remaining);
+    }
+
+    private String createAccessToken(Long userId, String email) {
+        return tokenProvider.generateToken(userId, email, Duration.ofHours(2));
+    }
+
+    // 로그아웃: 현재 액세스 토큰을 폐기 목록에 올리고 사용자의 리프레시 토큰도 폐기
+    public void revoke(String accessToken) {
+        Long userId = tokenProvider.getUserId(accessToken);
+        tokenRevocationService.revoke(accessToken);
+        if(userId != null) {
+            refreshTokenService.revokeByUserId(userId);
+        }
     }
 }
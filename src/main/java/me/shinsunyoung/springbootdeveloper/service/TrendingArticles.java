@@ -0,0 +1,125 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import me.shinsunyoung.springbootdeveloper.util.SpaceSavingCounter;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 시간 버킷별 Space-Saving 카운터로 구간별 많이 읽힌 글을 고정 메모리로 집계
+// 조회 결과는 refreshInterval 동안 스냅샷으로 재사용하므로 요청당 비용은 O(K)
+@Component
+public class TrendingArticles {
+
+    private final Map<TrendingWindow, Bucket[]> buckets = new EnumMap<>(TrendingWindow.class);
+    private final Map<TrendingWindow, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final BlogProperties.Trending properties;
+    private final Clock clock;
+
+    public TrendingArticles(BlogProperties blogProperties) {
+        this(blogProperties, Clock.systemUTC());
+    }
+
+    TrendingArticles(BlogProperties blogProperties, Clock clock) {
+        this.properties = blogProperties.getTrending();
+        this.clock = clock;
+        for (TrendingWindow window : TrendingWindow.values()) {
+            Bucket[] ring = new Bucket[window.getBucketCount()];
+            for (int i = 0; i < ring.length; i++) {
+                ring[i] = new Bucket(properties.getCapacity());
+            }
+            buckets.put(window, ring);
+            snapshots.put(window, new Snapshot(Long.MIN_VALUE, List.of()));
+        }
+    }
+
+    public void record(long articleId) {
+        long now = clock.millis();
+        buckets.forEach((window, ring) -> currentBucket(window, ring, now).counter.add(articleId));
+    }
+
+    // 구간 내 상위 limit개 (id, 근사 조회수)를 많이 읽힌 순으로 반환
+    public List<Entry> top(TrendingWindow window, int limit) {
+        long now = clock.millis();
+        Snapshot snapshot = snapshots.get(window);
+        if (now - snapshot.getComputedAt() >= properties.getRefreshInterval().toMillis()) {
+            snapshot = new Snapshot(now, compute(window, now));
+            snapshots.put(window, snapshot);
+        }
+
+        List<Entry> entries = snapshot.getEntries();
+        return entries.subList(0, Math.max(0, Math.min(limit, entries.size())));
+    }
+
+    private List<Entry> compute(TrendingWindow window, long now) {
+        long currentEpoch = now / window.getBucketWidth().toMillis();
+        Map<Long, Long> merged = new HashMap<>();
+        for (Bucket bucket : buckets.get(window)) {
+            if (currentEpoch - bucket.epoch < window.getBucketCount()) {
+                bucket.counter.mergeInto(merged);
+            }
+        }
+
+        int k = properties.getCapacity();
+        PriorityQueue<Entry> heap = new PriorityQueue<>(Comparator.comparingLong(Entry::getCount));
+        merged.forEach((articleId, count) -> {
+            if (heap.size() < k) {
+                heap.add(new Entry(articleId, count));
+            } else if (heap.peek().getCount() < count) {
+                heap.poll();
+                heap.add(new Entry(articleId, count));
+            }
+        });
+
+        List<Entry> entries = new ArrayList<>(heap);
+        entries.sort(Comparator.comparingLong(Entry::getCount).reversed());
+        return List.copyOf(entries);
+    }
+
+    private static Bucket currentBucket(TrendingWindow window, Bucket[] ring, long now) {
+        long epoch = now / window.getBucketWidth().toMillis();
+        Bucket bucket = ring[(int) (epoch % ring.length)];
+        if (bucket.epoch != epoch) {
+            synchronized (bucket) {
+                if (bucket.epoch != epoch) { // 한 바퀴 돈 오래된 버킷은 비우고 재사용
+                    bucket.counter.clear();
+                    bucket.epoch = epoch;
+                }
+            }
+        }
+        return bucket;
+    }
+
+    private static class Bucket {
+        private final SpaceSavingCounter counter;
+        private volatile long epoch = Long.MIN_VALUE / 2;
+
+        private Bucket(int capacity) {
+            this.counter = new SpaceSavingCounter(capacity);
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static class Snapshot {
+        private final long computedAt;
+        private final List<Entry> entries;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class Entry {
+        private final long articleId;
+        private final long count;
+    }
+}
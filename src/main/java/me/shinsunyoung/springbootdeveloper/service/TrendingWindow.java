@@ -0,0 +1,32 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import lombok.Getter;
+import me.shinsunyoung.springbootdeveloper.config.error.ErrorCode;
+import me.shinsunyoung.springbootdeveloper.config.error.exception.BusinessBaseException;
+
+import java.time.Duration;
+
+// 인기 글 집계 구간, 구간을 bucketCount개의 시간 버킷으로 나눠 오래된 버킷부터 밀어낸다
+@Getter
+public enum TrendingWindow {
+    HOUR(Duration.ofMinutes(5), 12),
+    DAY(Duration.ofHours(1), 24),
+    WEEK(Duration.ofDays(1), 7);
+
+    private final Duration bucketWidth;
+    private final int bucketCount;
+
+    TrendingWindow(Duration bucketWidth, int bucketCount) {
+        this.bucketWidth = bucketWidth;
+        this.bucketCount = bucketCount;
+    }
+
+    public static TrendingWindow from(String value) {
+        for (TrendingWindow window : values()) {
+            if (window.name().equalsIgnoreCase(value)) {
+                return window;
+            }
+        }
+        throw new BusinessBaseException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
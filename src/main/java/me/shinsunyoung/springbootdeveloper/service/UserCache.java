@@ -0,0 +1,75 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import me.shinsunyoung.springbootdeveloper.domain.User;
+import me.shinsunyoung.springbootdeveloper.dto.UserProfile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+// OAuth2 로그인 때 이미 등록된 사용자의 조회/갱신 트랜잭션을 건너뛰기 위한 사용자 캐시 (크기 제한 + TTL)
+// 사용자는 id로 한 번만 보관하고 이메일은 id를 가리키는 색인으로만 둔다
+// 관리 상태의 엔티티 대신 불변 스냅샷(UserProfile)을 보관한다
+@Component
+public class UserCache {
+
+    private final Cache<Long, UserProfile> usersById;
+    private final Cache<String, Long> idsByEmail;
+
+    public UserCache(BlogProperties blogProperties, MeterRegistry meterRegistry) {
+        BlogProperties.Cache properties = blogProperties.getCache();
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users");
+    }
+
+    public Optional<UserProfile> getIfPresent(String email) {
+        Long id = idsByEmail.getIfPresent(email);
+        return Optional.ofNullable(id != null ? usersById.getIfPresent(id) : null);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 적재해서 롤백된 데이터가 캐시에 남지 않도록 한다
+    public UserProfile put(UserProfile user) {
+        afterCommit(() -> {
+            usersById.put(user.getId(), user);
+            idsByEmail.put(user.getEmail(), user.getId());
+        });
+        return user;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 무효화해서 커밋 전 데이터가 다시 캐시되지 않도록 한다
+    public void invalidate(User user) {
+        afterCommit(() -> {
+            usersById.invalidate(user.getId());
+            idsByEmail.invalidate(user.getEmail());
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -3,18 +3,34 @@ package me.shinsunyoung.springbootdeveloper.service;
 import lombok.RequiredArgsConstructor;
 import me.shinsunyoung.springbootdeveloper.domain.User;
 import me.shinsunyoung.springbootdeveloper.repository.UserRepository;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
-public class UserDetailService implements UserDetailsService {
+public class UserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserService userService;
 
     @Override
     public User loadUserByUsername(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException(email));
     }
+
+    // 비밀번호 인증에 성공했고 저장된 해시의 BCrypt 비용이 현재 설정보다 낮으면 DaoAuthenticationProvider가 호출
+    @Transactional
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        return userRepository.findByEmail(user.getUsername())
+                .map(entity -> {
+                    userService.evict(entity);
+                    return entity.updatePassword(newPassword);
+                })
+                .orElseThrow(() -> new IllegalArgumentException(user.getUsername()));
+    }
 }
@@ -1,36 +1,70 @@
 package me.shinsunyoung.springbootdeveloper.service;
 
-import lombok.RequiredArgsConstructor;
 import me.shinsunyoung.springbootdeveloper.domain.AddUserRequest;
 import me.shinsunyoung.springbootdeveloper.domain.User;
+import me.shinsunyoung.springbootdeveloper.dto.UserProfile;
 import me.shinsunyoung.springbootdeveloper.repository.UserRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
-@RequiredArgsConstructor
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
-    //private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final UserCache userCache;
+    private final Executor applicationTaskExecutor;
+    private final TransactionTemplate transactionTemplate;
 
-    public Long save(AddUserRequest dto) {
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    public UserService(UserRepository userRepository, PasswordHashingService passwordHashingService, UserCache userCache,
+                       @Qualifier("applicationTaskExecutor") Executor applicationTaskExecutor,
+                       TransactionTemplate transactionTemplate) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.userCache = userCache;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.transactionTemplate = transactionTemplate;
+    }
 
-        return userRepository.save(User.builder()
-                .email(dto.getEmail())
-                //.password(bCryptPasswordEncoder.encode(dto.getPassword()))
-                .password(encoder.encode(dto.getPassword()))
-                .build()).getId();
+    // 해시는 전용 풀에서 수행하고 요청 스레드는 기다리지 않는다, 풀이 포화되면 ServiceBusyException
+    // 저장(커넥션 대기 포함)은 해시 풀을 붙잡지 않도록 애플리케이션 실행기에서 한다
+    public CompletableFuture<Long> save(AddUserRequest dto) {
+        return passwordHashingService.encode(dto.getPassword())
+                .thenApplyAsync(encodedPassword -> userRepository.save(User.builder()
+                        .email(dto.getEmail())
+                        .password(encodedPassword)
+                        .build()).getId(), applicationTaskExecutor);
     }
 
-    public User findById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
+    // OAuth2 로그인 사용자 등록/갱신, 닉네임이 바뀐 경우에만 쓰기
+    // 캐시에 같은 닉네임으로 있으면 트랜잭션을 열지 않고 DB에도 가지 않는다
+    public UserProfile saveOrUpdate(String email, String nickname) {
+        Optional<UserProfile> cached = userCache.getIfPresent(email);
+        if (cached.isPresent() && Objects.equals(cached.get().getNickname(), nickname)) {
+            return cached.get();
+        }
+
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findByEmail(email)
+                    .orElseGet(() -> userRepository.save(User.builder()
+                            .email(email)
+                            .nickname(nickname)
+                            .build()));
+            if (!Objects.equals(user.getNickname(), nickname)) {
+                user.update(nickname); // 변경 감지로 커밋 시 UPDATE
+            }
+            // 스냅샷은 커밋된 뒤에만 캐시에 들어간다
+            return userCache.put(new UserProfile(user));
+        });
     }
 
-    public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
+    public void evict(User user) {
+        userCache.invalidate(user);
     }
 }
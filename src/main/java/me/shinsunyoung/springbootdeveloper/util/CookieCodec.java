@@ -0,0 +1,10 @@
+package me.shinsunyoung.springbootdeveloper.util;
+
+// 쿠키 값 인코딩 방식, 결과는 쿠키에 그대로 넣을 수 있는 문자열이어야 한다
+public interface CookieCodec<T> {
+
+    String encode(T value);
+
+    // 변조됐거나 읽을 수 없는 값이면 null
+    T decode(String value);
+}
@@ -3,9 +3,6 @@ package me.shinsunyoung.springbootdeveloper.util;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.util.SerializationUtils;
-
-import java.util.Base64;
 
 public class CookieUtil {
 
@@ -35,15 +32,16 @@ public class CookieUtil {
 
     }
 
-    // 객체를 직렬화해 쿠키의 값으로 변환
-    public static String serialize(Object obj) {
-        return Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(obj));
+    // 코덱으로 객체를 쿠키 값으로 변환
+    public static <T> String encode(T value, CookieCodec<T> codec) {
+        return codec.encode(value);
     }
 
-    // 쿠키를 역직렬화해 객체로 변환
-    public static <T> T deserialize(Cookie cookie, Class<T> cls) {
-        return cls.cast(
-                SerializationUtils.deserialize(Base64.getUrlDecoder().decode(cookie.getValue())));
-
+    // 코덱으로 쿠키를 객체로 변환, 쿠키가 없거나 읽을 수 없으면 null
+    public static <T> T decode(Cookie cookie, CookieCodec<T> codec) {
+        if(cookie == null || cookie.getValue() == null || cookie.getValue().isEmpty()) {
+            return null;
+        }
+        return codec.decode(cookie.getValue());
     }
 }
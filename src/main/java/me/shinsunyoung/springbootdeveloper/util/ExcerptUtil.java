@@ -0,0 +1,25 @@
+package me.shinsunyoung.springbootdeveloper.util;
+
+public class ExcerptUtil {
+
+    public static final int MAX_LENGTH = 150;
+    private static final String ELLIPSIS = "...";
+
+    // 본문에서 목록에 노출할 요약문을 만든다 (글 저장/수정 시 한 번만 계산)
+    public static String excerpt(String content) {
+        if (content == null) {
+            return "";
+        }
+
+        String normalized = content.strip().replaceAll("\\s+", " ");
+        if (normalized.length() <= MAX_LENGTH) {
+            return normalized;
+        }
+
+        int end = MAX_LENGTH - ELLIPSIS.length();
+        if (Character.isHighSurrogate(normalized.charAt(end - 1))) {
+            end--;
+        }
+        return normalized.substring(0, end) + ELLIPSIS;
+    }
+}
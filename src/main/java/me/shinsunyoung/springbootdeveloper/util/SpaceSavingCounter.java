@@ -0,0 +1,146 @@
+package me.shinsunyoung.springbootdeveloper.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Space-Saving 알고리즘으로 고정된 개수(capacity)의 카운터만 유지하며 빈도 상위 항목을 근사 집계한다
+// 추적 중이 아닌 항목이 들어오면 가장 작은 카운터를 그 항목에 넘겨주므로 메모리는 항상 capacity로 제한된다
+// 카운터는 같은 값끼리 묶은 버킷을 값 순서로 연결한 Stream-Summary 구조로 두어 증가와 최소 교체가 모두 O(1)이다
+public class SpaceSavingCounter {
+
+    private final int capacity;
+    private final Map<Long, Node> nodes;
+    private CountBucket min; // 가장 작은 값의 버킷, 버킷은 값 오름차순으로 연결된다
+
+    public SpaceSavingCounter(int capacity) {
+        this.capacity = capacity;
+        this.nodes = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void add(long item) {
+        Node node = nodes.get(item);
+        if (node != null) {
+            increment(node);
+            return;
+        }
+        if (nodes.size() < capacity) {
+            node = new Node(item);
+            attach(node, min != null && min.count == 1 ? min : insertHead(1));
+            nodes.put(item, node);
+            return;
+        }
+        if (min == null) { // capacity 0
+            return;
+        }
+
+        // 가장 작은 카운터를 새 항목에 넘기고 1 증가
+        node = min.head;
+        nodes.remove(node.item);
+        node.item = item;
+        node.error = min.count;
+        nodes.put(item, node);
+        increment(node);
+    }
+
+    // 현재 카운터 값을 target에 더한다
+    public synchronized void mergeInto(Map<Long, Long> target) {
+        nodes.forEach((item, node) -> target.merge(item, node.bucket.count, Long::sum));
+    }
+
+    public synchronized void clear() {
+        nodes.clear();
+        min = null;
+    }
+
+    // 노드를 값이 1 큰 버킷으로 옮긴다, 없으면 바로 뒤에 만든다
+    private void increment(Node node) {
+        CountBucket bucket = node.bucket;
+        CountBucket next = bucket.next;
+        if (next == null || next.count != bucket.count + 1) {
+            next = insertAfter(bucket, bucket.count + 1);
+        }
+        detach(node);
+        attach(node, next);
+    }
+
+    private CountBucket insertHead(long count) {
+        CountBucket bucket = new CountBucket(count);
+        bucket.next = min;
+        if (min != null) {
+            min.prev = bucket;
+        }
+        min = bucket;
+        return bucket;
+    }
+
+    private static CountBucket insertAfter(CountBucket previous, long count) {
+        CountBucket bucket = new CountBucket(count);
+        bucket.prev = previous;
+        bucket.next = previous.next;
+        if (previous.next != null) {
+            previous.next.prev = bucket;
+        }
+        previous.next = bucket;
+        return bucket;
+    }
+
+    private void unlink(CountBucket bucket) {
+        if (bucket.prev != null) {
+            bucket.prev.next = bucket.next;
+        } else {
+            min = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        }
+    }
+
+    private static void attach(Node node, CountBucket bucket) {
+        node.bucket = bucket;
+        node.prev = null;
+        node.next = bucket.head;
+        if (bucket.head != null) {
+            bucket.head.prev = node;
+        }
+        bucket.head = node;
+    }
+
+    // 노드를 버킷에서 빼고, 비게 된 버킷은 목록에서 제거
+    private void detach(Node node) {
+        CountBucket bucket = node.bucket;
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            bucket.head = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        if (bucket.head == null) {
+            unlink(bucket);
+        }
+    }
+
+    private static class CountBucket {
+        private final long count;
+        private CountBucket prev;
+        private CountBucket next;
+        private Node head;
+
+        private CountBucket(long count) {
+            this.count = count;
+        }
+    }
+
+    private static class Node {
+        private long item;
+        private long error; // 넘겨받을 때의 값, 실제 빈도는 count - error 이상이다
+        private CountBucket bucket;
+        private Node prev;
+        private Node next;
+
+        private Node(long item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package me.shinsunyoung.springbootdeveloper.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class TokenDigestUtil {
+
+    // 토큰 원문 대신 저장/비교에 사용하는 고정 길이(64자) SHA-256 다이제스트
+    public static String sha256(String token) {
+        return HexFormat.of().formatHex(sha256Bytes(token));
+    }
+
+    public static byte[] sha256Bytes(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
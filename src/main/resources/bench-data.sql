@@ -0,0 +1,10 @@
+-- bench-local 프로필 시드 데이터 (H2)
+-- id는 엔티티와 같은 시퀀스에서 받아야 이후 Hibernate가 할당하는 id와 겹치지 않는다
+insert into article (id, title, content, author, excerpt, created_at, updated_at)
+select next value for article_seq, concat('제목', x), repeat('내용', 200), concat('user', mod(x, 10), '@gmail.com'),
+       repeat('내용', 50), dateadd('MINUTE', -x, now()), dateadd('MINUTE', -x, now())
+from system_range(1, 1000);
+
+insert into comments (id, article_id, author, content, created_at)
+select next value for comments_seq, a.id, 'user1@gmail.com', concat('댓글', r.x), now()
+from article a cross join system_range(1, 3) r;
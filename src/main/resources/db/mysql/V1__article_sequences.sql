@@ -0,0 +1,16 @@
+-- article, comments id를 IDENTITY에서 시퀀스(allocationSize 50)로 바꾼 변경의 MySQL 스키마
+-- MySQL에는 시퀀스가 없어 Hibernate는 시퀀스 이름의 테이블(next_val 한 행)로 흉내 낸다
+-- 풀 최적화기는 처음 읽은 값에서 (allocationSize - 1)을 뺀 값부터 할당하므로 기존 최대 id + 51로 시작해야 겹치지 않는다
+create table article_seq (
+    next_val bigint
+) engine = InnoDB;
+
+insert into article_seq (next_val)
+select coalesce(max(id), 0) + 51 from article;
+
+create table comments_seq (
+    next_val bigint
+) engine = InnoDB;
+
+insert into comments_seq (next_val)
+select coalesce(max(id), 0) + 51 from comments;
@@ -0,0 +1,6 @@
+-- 글 조회수 (ArticleViewCounter가 주기적으로 insert ... on duplicate key update로 누적)
+create table article_views (
+    article_id bigint not null,
+    views      bigint not null,
+    primary key (article_id)
+) engine = InnoDB;
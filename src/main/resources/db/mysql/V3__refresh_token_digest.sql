@@ -0,0 +1,16 @@
+-- 리프레시 토큰 원문 대신 SHA-256 다이제스트와 만료 시각을 저장
+-- 기존 토큰은 다이제스트로 옮기고 만료 시각은 발급 기간(14일)으로 잡아 로그인 상태를 유지한다
+alter table refresh_token
+    add column token_hash char(64),
+    add column expires_at datetime(6);
+
+update refresh_token
+set token_hash = sha2(refresh_token, 256),
+    expires_at = now(6) + interval 14 day;
+
+alter table refresh_token
+    modify token_hash char(64) not null,
+    modify expires_at datetime(6) not null,
+    drop column refresh_token,
+    add constraint uk_refresh_token_token_hash unique (token_hash),
+    add index idx_refresh_token_expires_at (expires_at);
@@ -0,0 +1,4 @@
+-- 교체로 밀려난 직전 토큰과 교체 시각 (동시 재발급 요청의 유예 기간 판단)
+alter table refresh_token
+    add column previous_hash char(64),
+    add column rotated_at    datetime(6);
@@ -0,0 +1,10 @@
+-- 폐기된 액세스 토큰 (Bloom 필터 재적재와 만료 행 삭제용 인덱스 포함)
+create table revoked_token (
+    token_hash char(64)    not null,
+    user_id    bigint,
+    expires_at datetime(6) not null,
+    revoked_at datetime(6) not null,
+    primary key (token_hash),
+    index idx_revoked_token_revoked_at (revoked_at),
+    index idx_revoked_token_expires_at (expires_at)
+) engine = InnoDB;
@@ -0,0 +1,13 @@
+-- 목록 조회용 요약문 (글 저장/수정 시 ExcerptUtil.excerpt로 계산)
+-- 기존 글은 ExcerptUtil과 같은 규칙으로 채운다: 앞뒤 공백 제거, 연속 공백을 한 칸으로, 150자를 넘으면 147자 + "..."
+-- regexp_replace는 MySQL 8.0.4 이상, 보조 평면 문자(이모지 등)는 한 글자로 세므로 자바 계산보다 한두 글자 길 수 있다
+alter table article
+    add column excerpt varchar(150);
+
+update article
+set excerpt = case
+        when char_length(trim(regexp_replace(content, '[[:space:]]+', ' '))) <= 150
+            then trim(regexp_replace(content, '[[:space:]]+', ' '))
+        else concat(left(trim(regexp_replace(content, '[[:space:]]+', ' ')), 147), '...')
+    end
+where excerpt is null;
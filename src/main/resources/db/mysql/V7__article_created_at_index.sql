@@ -0,0 +1,3 @@
+-- 목록 키셋 페이지(order by created_at desc, id desc limit n)를 인덱스 역순 스캔으로 읽어 filesort를 피한다
+-- Article 엔티티의 @Index와 같은 정의 (DDL 자동 생성을 쓰지 않으므로 직접 만든다)
+create index idx_article_created_at_id on article (created_at, id);
@@ -114,6 +114,56 @@ if(commentCreateButton) {
 }
 
 
+// 댓글 더보기 기능
+const commentMoreButton = document.getElementById('comment-more-btn');
+
+if (commentMoreButton) {
+    commentMoreButton.addEventListener('click', event => {
+        const articleId = document.getElementById('article-id').value;
+        const after = commentMoreButton.dataset.next;
+
+        fetch(`/api/articles/${articleId}/comments?after=${encodeURIComponent(after)}`)
+            .then(response => response.json())
+            .then(page => {
+                const commentList = document.getElementById('comment-list');
+                page.items.forEach(comment => commentList.appendChild(createCommentElement(comment)));
+
+                if (page.nextCursor) {
+                    commentMoreButton.dataset.next = page.nextCursor;
+                } else {
+                    commentMoreButton.remove();
+                }
+            })
+            .catch(error => alert('댓글을 불러오지 못했습니다.'));
+    });
+}
+
+// 댓글 카드 요소를 만드는 함수
+function createCommentElement(comment) {
+    const section = document.createElement('section');
+    section.className = 'mb-3';
+
+    const card = document.createElement('div');
+    card.className = 'card mb-1';
+    const body = document.createElement('div');
+    body.className = 'card-body';
+
+    const meta = document.createElement('div');
+    meta.className = 'text-muted fst-italic mb-2';
+    const createdAt = comment.createdAt ? comment.createdAt.substring(0, 16).replace('T', ' ') : '';
+    meta.textContent = `Commented on ${createdAt} By ${comment.author}`;
+
+    const content = document.createElement('p');
+    content.className = 'card-text';
+    content.textContent = comment.content;
+
+    body.appendChild(meta);
+    body.appendChild(content);
+    card.appendChild(body);
+    section.appendChild(card);
+
+    return section;
+}
 
 // 쿠키를 가져오는 함수
 function getCookie(key) {
@@ -0,0 +1,169 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.shinsunyoung.springbootdeveloper.config.jwt.JwtFactory;
+import me.shinsunyoung.springbootdeveloper.config.jwt.JwtProperties;
+import me.shinsunyoung.springbootdeveloper.config.jwt.TokenProvider;
+import me.shinsunyoung.springbootdeveloper.domain.User;
+import me.shinsunyoung.springbootdeveloper.dto.CreateAccessTokenRequest;
+import me.shinsunyoung.springbootdeveloper.repository.UserRepository;
+import me.shinsunyoung.springbootdeveloper.service.RefreshTokenService;
+import me.shinsunyoung.springbootdeveloper.service.TokenRevocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 보안 필터 체인을 포함한 MockMvc로 액세스 토큰 폐기가 실제 요청 인증에 반영되는지 확인
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenAuthenticationFilterTest {
+
+    private static final String PROTECTED_URL = "/api/articles";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    TokenProvider tokenProvider;
+
+    @Autowired
+    JwtProperties jwtProperties;
+
+    @Autowired
+    TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    RefreshTokenService refreshTokenService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BlogProperties blogProperties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        user = userRepository.save(User.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .build());
+    }
+
+    @DisplayName("폐기된 액세스 토큰으로 보낸 요청은 필터에서 인증되지 않아 401을 받는다.")
+    @Test
+    void revokedAccessToken() throws Exception {
+        // given
+        String accessToken = tokenProvider.generateToken(user, Duration.ofHours(1));
+        request(accessToken).andExpect(status().isOk());
+
+        // when
+        tokenRevocationService.revoke(accessToken);
+
+        // then
+        request(accessToken).andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("/api/token/revoke: 요청에 쓴 액세스 토큰과 사용자의 리프레시 토큰이 함께 폐기된다.")
+    @Test
+    void revokeEndpoint() throws Exception {
+        // given
+        String accessToken = tokenProvider.generateToken(user, Duration.ofHours(1));
+        String refreshToken = tokenProvider.generateRefreshToken(user.getId(), user.getEmail(), Duration.ofDays(14));
+        refreshTokenService.save(user.getId(), refreshToken, Duration.ofDays(14));
+
+        // when
+        ResultActions result = mockMvc.perform(post("/api/token/revoke")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken));
+
+        // then
+        result.andExpect(status().isNoContent());
+        request(accessToken).andExpect(status().isUnauthorized());
+
+        CreateAccessTokenRequest refresh = new CreateAccessTokenRequest();
+        refresh.setRefreshToken(refreshToken);
+        mockMvc.perform(post("/api/token")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(refresh)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("Bloom 필터 오탐으로 '폐기되지 않음'이 캐시된 토큰도 같은 인스턴스에서 폐기하면 바로 401을 받는다.")
+    @Test
+    void revokeAfterCachedNegative() throws Exception {
+        // given: 64비트 한 단어짜리 필터를 채워 이후 같은 만료 버킷의 모든 토큰이 양성이 되도록 한다
+        BlogProperties.Revocation properties = blogProperties.getRevocation();
+        long expectedPerHour = properties.getExpectedPerHour();
+        double falsePositiveRate = properties.getFalsePositiveRate();
+        properties.setExpectedPerHour(1);
+        properties.setFalsePositiveRate(0.5);
+
+        try {
+            long hour = Duration.ofHours(1).toMillis();
+            // 다른 테스트가 만든 버킷과 겹치지 않는 먼 만료 버킷의 가운데
+            Date expiration = new Date((System.currentTimeMillis() / hour + 24 * 30) * hour + hour / 2);
+            for (int i = 0; i < 20; i++) {
+                tokenRevocationService.revoke(token("filler" + i + "@gmail.com", expiration));
+            }
+            String accessToken = token(user.getEmail(), expiration);
+
+            double positives = bloomPositives();
+            request(accessToken).andExpect(status().isOk());
+            assertThat(bloomPositives()).isGreaterThan(positives); // 정확 조회 결과(폐기 아님)가 캐시됨
+
+            // when
+            mockMvc.perform(post("/api/token/revoke")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                    .andExpect(status().isNoContent());
+
+            // then
+            request(accessToken).andExpect(status().isUnauthorized());
+        } finally {
+            properties.setExpectedPerHour(expectedPerHour);
+            properties.setFalsePositiveRate(falsePositiveRate);
+        }
+    }
+
+    private ResultActions request(String accessToken) throws Exception {
+        return mockMvc.perform(get(PROTECTED_URL)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken));
+    }
+
+    private String token(String subject, Date expiration) {
+        return JwtFactory.builder()
+                .subject(subject)
+                .expiration(expiration)
+                .claims(Map.of("id", user.getId()))
+                .build()
+                .createToken(jwtProperties);
+    }
+
+    private double bloomPositives() {
+        return meterRegistry.counter("auth.revocation.bloom.positives").count();
+    }
+}
@@ -0,0 +1,30 @@
+package me.shinsunyoung.springbootdeveloper.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenAuthenticationRoutesTest {
+
+    @DisplayName("requiresAuthentication(): /api/**, /rx/**, /actuator/** 중 공개 경로를 제외한 요청만 토큰 인증 대상이다.")
+    @Test
+    void requiresAuthentication() {
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("GET", "/articles")).isFalse();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("GET", "/login")).isFalse();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("POST", "/api/token")).isFalse();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("GET", "/api/articles/1/comments")).isFalse();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("GET", "/rx/articles/1/comments")).isFalse();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("GET", "/actuator/health")).isFalse();
+
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("POST", "/api/token/revoke")).isTrue();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("GET", "/api/articles")).isTrue();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("GET", "/api/articles/1")).isTrue();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("POST", "/api/articles/1/comments")).isTrue();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("GET", "/api/articles/1/2/comments")).isTrue();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("GET", "/rx/articles")).isTrue();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("GET", "/rx/articles/1")).isTrue();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("GET", "/actuator/diagnostics")).isTrue();
+        assertThat(TokenAuthenticationRoutes.requiresAuthentication("DELETE", "/actuator/queries")).isTrue();
+    }
+}
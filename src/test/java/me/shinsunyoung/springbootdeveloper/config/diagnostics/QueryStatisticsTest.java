@@ -0,0 +1,64 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryStatisticsTest {
+
+    @DisplayName("record(): 값만 다른 쿼리는 같은 모양으로 묶고, 총 실행 시간 순으로 보여 준다.")
+    @Test
+    void top() {
+        // given
+        QueryStatistics statistics = new QueryStatistics(new BlogProperties.Diagnostics());
+
+        // when
+        statistics.record("select * from article where id = 1", TimeUnit.MILLISECONDS.toNanos(1));
+        statistics.record("select * from article  where id = 2", TimeUnit.MILLISECONDS.toNanos(1));
+        statistics.record("select * from comment where article_id in (1, 2, 3) and author = 'a'",
+                TimeUnit.MILLISECONDS.toNanos(5));
+
+        // then
+        List<QueryStatistics.FingerprintSnapshot> top = statistics.top(10);
+        assertThat(top).extracting(QueryStatistics.FingerprintSnapshot::getFingerprint)
+                .containsExactly("select * from comment where article_id in (?...) and author = ?",
+                        "select * from article where id = ?");
+        assertThat(top.get(1).getCount()).isEqualTo(2);
+        assertThat(top.get(0).getMaxMillis()).isEqualTo(5.0);
+    }
+
+    @DisplayName("inspect(): 한 요청에서 같은 모양이 임계값 이상 반복되면 N+1 의심으로 센다. INSERT와 배치 실행은 제외한다.")
+    @Test
+    void inspect() {
+        // given
+        BlogProperties.Diagnostics properties = new BlogProperties.Diagnostics();
+        properties.setRepeatedQueryThreshold(3);
+        QueryStatistics statistics = new QueryStatistics(properties);
+
+        // when
+        RequestTrace trace = RequestTrace.start();
+        try {
+            statistics.record("select * from article", 1_000);
+            for (int id = 1; id <= 3; id++) {
+                statistics.record("select * from comment where article_id = " + id, 1_000);
+                statistics.record("insert into comment (article_id) values (" + id + ")", 1_000);
+                statistics.record("update article set view_count = ? where id = ?", 1_000, true);
+            }
+        } finally {
+            RequestTrace.clear();
+        }
+        statistics.inspect("GET /articles", trace);
+
+        // then
+        assertThat(trace.getQueryCount()).isEqualTo(10);
+        assertThat(statistics.top(10))
+                .filteredOn(snapshot -> snapshot.getSuspectedNPlusOne() > 0)
+                .extracting(QueryStatistics.FingerprintSnapshot::getFingerprint)
+                .containsExactly("select * from comment where article_id = ?");
+    }
+}
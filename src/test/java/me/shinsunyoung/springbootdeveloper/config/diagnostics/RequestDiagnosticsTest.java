@@ -0,0 +1,57 @@
+package me.shinsunyoung.springbootdeveloper.config.diagnostics;
+
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestDiagnosticsTest {
+
+    @DisplayName("record(): 경로별로 구간 지연 시간과 SQL 횟수를 모으고, 없던 구간은 분포에 넣지 않는다.")
+    @Test
+    void record() {
+        // given
+        RequestDiagnostics diagnostics = new RequestDiagnostics(new BlogProperties.Diagnostics());
+
+        // when
+        for (int i = 1; i <= 100; i++) {
+            RequestTrace trace = RequestTrace.start();
+            RequestTrace.record(RequestPhase.SERVICE, TimeUnit.MILLISECONDS.toNanos(i));
+            RequestTrace.recordQuery("select ?", TimeUnit.MILLISECONDS.toNanos(1), true);
+            RequestTrace.recordQuery("select ?", TimeUnit.MILLISECONDS.toNanos(1), true);
+            RequestTrace.clear();
+            diagnostics.record("GET /api/articles", trace, TimeUnit.MILLISECONDS.toNanos(i + 5));
+        }
+
+        // then
+        Map<String, RequestDiagnostics.RouteSnapshot> snapshot = diagnostics.snapshot();
+        RequestDiagnostics.RouteSnapshot route = snapshot.get("GET /api/articles");
+        assertThat(route.getCount()).isEqualTo(100);
+        assertThat(route.getPhases()).containsOnlyKeys("total", "service", "sql");
+        assertThat(route.getPhases().get("service").getP50()).isBetween(49.0, 51.0);
+        assertThat(route.getPhases().get("service").getMax()).isBetween(99.0, 101.0);
+        assertThat(route.getQueries().getMax()).isEqualTo(2);
+    }
+
+    @DisplayName("record(): 경로 수가 한도를 넘으면 나머지는 other로 묶는다.")
+    @Test
+    void recordOverflowRoutes() {
+        // given
+        BlogProperties.Diagnostics properties = new BlogProperties.Diagnostics();
+        properties.setMaxRoutes(1);
+        RequestDiagnostics diagnostics = new RequestDiagnostics(properties);
+        RequestTrace trace = RequestTrace.start();
+        RequestTrace.clear();
+
+        // when
+        diagnostics.record("GET /a", trace, 1_000_000);
+        diagnostics.record("GET /b", trace, 1_000_000);
+
+        // then
+        assertThat(diagnostics.snapshot()).containsOnlyKeys("GET /a", RequestDiagnostics.OTHER_ROUTE);
+    }
+}
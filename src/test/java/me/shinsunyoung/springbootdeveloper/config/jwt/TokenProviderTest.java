@@ -1,6 +1,10 @@
 package me.shinsunyoung.springbootdeveloper.config.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.impl.TextCodec;
 import me.shinsunyoung.springbootdeveloper.domain.User;
 import me.shinsunyoung.springbootdeveloper.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -115,4 +119,45 @@ class TokenProviderTest {
         // then
         assertThat(userIdByToken).isEqualTo(userId);
     }
-}
\ No newline at end of file
+
+    @DisplayName("rotateKey(): 키를 교체해도 이전 키로 발급한 토큰은 검증되고, 새 토큰은 새 kid로 서명된다.")
+    @Test
+    void rotateKey() {
+        // given
+        TokenProvider provider = new TokenProvider(jwtProperties);
+        User testUser = User.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .build();
+        String oldToken = provider.generateToken(testUser, Duration.ofDays(14));
+        String legacyToken = JwtFactory.withDefaultValues().createToken(jwtProperties);
+
+        // when
+        provider.rotateKey("next", "bmV4dC1zaWduaW5nLWtleS1mb3ItdGVzdHM=");
+        String newToken = provider.generateToken(testUser, Duration.ofDays(14));
+
+        // then
+        assertThat(provider.validToken(oldToken)).isTrue();
+        assertThat(provider.validToken(legacyToken)).isTrue();
+        assertThat(provider.validToken(newToken)).isTrue();
+        assertThat(tokenProvider.validToken(newToken)).isFalse();
+        assertThat(Jwts.parser()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public byte[] resolveSigningKeyBytes(JwsHeader header, Claims claims) {
+                        assertThat(header.getKeyId()).isEqualTo("next");
+                        return TextCodec.BASE64.decode("bmV4dC1zaWduaW5nLWtleS1mb3ItdGVzdHM=");
+                    }
+                })
+                .parseClaimsJws(newToken)
+                .getBody()
+                .getSubject()).isEqualTo("user@gmail.com");
+
+        // when
+        provider.retireKey(jwtProperties.getKeyId());
+
+        // then
+        assertThat(provider.validToken(oldToken)).isFalse();
+        assertThat(provider.validToken(newToken)).isTrue();
+    }
+}
@@ -0,0 +1,64 @@
+package me.shinsunyoung.springbootdeveloper.config.oauth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OAuth2AuthorizationRequestCookieCodecTest {
+
+    private final OAuth2AuthorizationRequestCookieCodec codec =
+            new OAuth2AuthorizationRequestCookieCodec("test-cookie-secret".getBytes(StandardCharsets.UTF_8));
+
+    @DisplayName("encode()/decode(): 인가 요청을 인코딩한 뒤 같은 값으로 복원한다.")
+    @Test
+    void roundTrip() {
+        // given
+        OAuth2AuthorizationRequest request = authorizationRequest();
+
+        // when
+        OAuth2AuthorizationRequest decoded = codec.decode(codec.encode(request));
+
+        // then
+        assertThat(decoded.getAuthorizationUri()).isEqualTo(request.getAuthorizationUri());
+        assertThat(decoded.getClientId()).isEqualTo(request.getClientId());
+        assertThat(decoded.getRedirectUri()).isEqualTo(request.getRedirectUri());
+        assertThat(decoded.getState()).isEqualTo(request.getState());
+        assertThat(decoded.getScopes()).containsExactlyElementsOf(request.getScopes());
+        assertThat(decoded.getAttributes()).isEqualTo(request.getAttributes());
+        assertThat(decoded.getAdditionalParameters()).isEqualTo(request.getAdditionalParameters());
+        assertThat(decoded.getAuthorizationRequestUri()).isEqualTo(request.getAuthorizationRequestUri());
+    }
+
+    @DisplayName("decode(): 서명이 맞지 않는 쿠키 값은 null로 처리한다.")
+    @Test
+    void decode_tampered() {
+        // given
+        String encoded = codec.encode(authorizationRequest());
+        int middle = encoded.length() / 2;
+        String tampered = encoded.substring(0, middle) + (encoded.charAt(middle) == 'A' ? 'B' : 'A')
+                + encoded.substring(middle + 1);
+
+        // when & then
+        assertThat(codec.decode(tampered)).isNull();
+        assertThat(codec.decode("not-a-cookie")).isNull();
+        assertThat(new OAuth2AuthorizationRequestCookieCodec("other".getBytes(StandardCharsets.UTF_8))
+                .decode(encoded)).isNull();
+    }
+
+    static OAuth2AuthorizationRequest authorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("412531422125-example.apps.googleusercontent.com")
+                .redirectUri("http://localhost:8080/login/oauth2/code/google")
+                .scopes(Set.of("email", "profile"))
+                .state("d2VsbC1mb3JtZWQtc3RhdGUtdmFsdWUtZm9yLXRlc3Rz")
+                .attributes(Map.of("registration_id", "google"))
+                .build();
+    }
+}
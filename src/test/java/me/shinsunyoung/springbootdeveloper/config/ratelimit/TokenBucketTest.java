@@ -0,0 +1,54 @@
+package me.shinsunyoung.springbootdeveloper.config.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @DisplayName("tryConsume(): 용량만큼 허용한 뒤에는 다음 토큰까지 기다릴 시간을 반환하고, 시간이 지나면 다시 허용한다.")
+    @Test
+    void tryConsume() {
+        // given
+        long now = 1_000_000L;
+        TokenBucket bucket = new TokenBucket(2, 1.0, now);
+
+        // when & then
+        assertThat(bucket.tryConsume(now)).isZero();
+        assertThat(bucket.tryConsume(now)).isZero();
+        assertThat(bucket.tryConsume(now)).isEqualTo(1000);
+        assertThat(bucket.tryConsume(now + 400)).isEqualTo(600);
+        assertThat(bucket.tryConsume(now + 1000)).isZero();
+        assertThat(bucket.tryConsume(now + 1000)).isPositive();
+    }
+
+    @DisplayName("tryConsume(): 여러 스레드가 동시에 꺼내도 용량보다 많이 허용하지 않는다.")
+    @Test
+    void tryConsume_concurrent() throws InterruptedException {
+        // given
+        long now = System.currentTimeMillis();
+        TokenBucket bucket = new TokenBucket(100, 0.001, now);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            executor.execute(() -> {
+                if (bucket.tryConsume(now) == 0) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
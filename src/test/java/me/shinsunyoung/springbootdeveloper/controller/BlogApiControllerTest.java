@@ -1,6 +1,7 @@
 package me.shinsunyoung.springbootdeveloper.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import me.shinsunyoung.springbootdeveloper.config.error.ErrorCode;
 import me.shinsunyoung.springbootdeveloper.domain.Article;
 import me.shinsunyoung.springbootdeveloper.domain.Comment;
 import me.shinsunyoung.springbootdeveloper.domain.User;
@@ -10,6 +11,7 @@ import me.shinsunyoung.springbootdeveloper.dto.UpdateArticleRequest;
 import me.shinsunyoung.springbootdeveloper.repository.BlogRepository;
 import me.shinsunyoung.springbootdeveloper.repository.CommentRepository;
 import me.shinsunyoung.springbootdeveloper.repository.UserRepository;
+import me.shinsunyoung.springbootdeveloper.util.ExcerptUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
@@ -30,10 +33,13 @@ import java.security.Principal;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
@@ -112,6 +118,35 @@ class BlogApiControllerTest {
         assertThat(articles.get(0).getContent()).isEqualTo(content);
     }
 
+    @DisplayName("addArticles: NDJSON 본문으로 아티클 대량 추가에 성공하고 항목별 결과를 반환한다.")
+    @Test
+    public void addArticles() throws Exception {
+        // given
+        final String url = "/api/articles/bulk";
+        final String requestBody = String.join("\n",
+                objectMapper.writeValueAsString(new AddArticleRequest("title1", "content1")),
+                objectMapper.writeValueAsString(new AddArticleRequest("", "content2")),
+                objectMapper.writeValueAsString(new AddArticleRequest("title3", "content3")));
+
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn("username");
+
+        // when
+        ResultActions result = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .principal(principal)
+                .content(requestBody));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[1].status").value("FAILED"))
+                .andExpect(jsonPath("$[2].status").value("CREATED"));
+
+        assertThat(blogRepository.findAll()).hasSize(2);
+    }
+
     @DisplayName("findAllArticles: 아티클 목록 조회에 성공한다.")
     @Test
     public void findAllArticles() throws Exception {
@@ -126,8 +161,54 @@ class BlogApiControllerTest {
         // then
         resultActions
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].content").value(savedArticle.getContent()))
-                .andExpect(jsonPath("$[0].title").value(savedArticle.getTitle()));
+                .andExpect(jsonPath("$.items[0].excerpt").value(savedArticle.getExcerpt()))
+                .andExpect(jsonPath("$.items[0].title").value(savedArticle.getTitle()));
+    }
+
+    @DisplayName("findAllArticles: 커서로 다음 페이지 아티클 목록을 조회한다.")
+    @Test
+    public void findAllArticlesWithCursor() throws Exception {
+        // given
+        final String url = "/api/articles";
+        createDefaultArticle();
+        createDefaultArticle();
+        createDefaultArticle();
+
+        // when
+        String firstPage = mockMvc.perform(get(url).param("size", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.prevCursor").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        final ResultActions resultActions = mockMvc.perform(get(url)
+                .param("size", "2")
+                .param("after", nextCursor)
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.prevCursor").isNotEmpty());
+    }
+
+    @DisplayName("findAllArticles: 잘못된 커서로 조회하면 400 에러가 발생한다.")
+    @Test
+    public void findAllArticlesWithInvalidCursor() throws Exception {
+        // given
+        final String url = "/api/articles";
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get(url)
+                .param("after", "invalid-cursor")
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
     }
 
     @DisplayName("findArticle: 아티클 단건 조회에 성공한다.")
@@ -148,6 +229,43 @@ class BlogApiControllerTest {
     }
 
 
+    @DisplayName("findArticle: ETag가 일치하면 본문 없이 304를 응답한다.")
+    @Test
+    public void findArticleNotModified() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+
+        String eTag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get(url, savedArticle.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        resultActions
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @DisplayName("findComments: 존재하지 않는 아티클의 댓글을 조회하면 404 에러가 발생한다.")
+    @Test
+    public void findCommentsOfMissingArticle() throws Exception {
+        // given
+        final String url = "/api/articles/{id}/comments";
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get(url, Long.MAX_VALUE));
+
+        // then
+        resultActions
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(ErrorCode.ARTICLE_NOT_FOUND.getCode()));
+    }
+
     @DisplayName("deleteArticle: 아티클 삭제에 성공한다.")
     @Test
     public void deleteArticle() throws Exception {
@@ -193,11 +311,14 @@ class BlogApiControllerTest {
     }
 
     private Article createDefaultArticle() {
-        return blogRepository.save(Article.builder()
+        Article article = Article.builder()
                 .title("title")
                 .author(user.getUsername())
                 .content("content")
-                .build());
+                .build();
+        article.updateExcerpt(ExcerptUtil.excerpt(article.getContent()));
+
+        return blogRepository.save(article);
     }
 
     @DisplayName("addComment: 댓글 추가에 성공한다.")
@@ -1,13 +1,13 @@
 package me.shinsunyoung.springbootdeveloper.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
 import me.shinsunyoung.springbootdeveloper.config.jwt.JwtFactory;
 import me.shinsunyoung.springbootdeveloper.config.jwt.JwtProperties;
-import me.shinsunyoung.springbootdeveloper.domain.RefreshToken;
 import me.shinsunyoung.springbootdeveloper.domain.User;
 import me.shinsunyoung.springbootdeveloper.dto.CreateAccessTokenRequest;
-import me.shinsunyoung.springbootdeveloper.repository.RefreshTokenRepository;
 import me.shinsunyoung.springbootdeveloper.repository.UserRepository;
+import me.shinsunyoung.springbootdeveloper.service.RefreshTokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,9 +20,11 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -47,7 +49,10 @@ class TokenApiControllerTest {
     UserRepository userRepository;
 
     @Autowired
-    RefreshTokenRepository refreshTokenRepository;
+    RefreshTokenService refreshTokenService;
+
+    @Autowired
+    BlogProperties blogProperties;
 
     @BeforeEach
     public void mockMvcSetUp() {
@@ -72,7 +77,7 @@ class TokenApiControllerTest {
                 .build()
                 .createToken(jwtProperties);
 
-        refreshTokenRepository.save(new RefreshToken(testUser.getId(), refreshToken));
+        refreshTokenService.save(testUser.getId(), refreshToken, Duration.ofDays(14));
 
         CreateAccessTokenRequest request = new CreateAccessTokenRequest();
         request.setRefreshToken(refreshToken);
@@ -86,7 +91,129 @@ class TokenApiControllerTest {
         // then
         resultActions
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.accessToken").isNotEmpty());
+                .andExpect(jsonPath("$.accessToken").isNotEmpty())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty());
     }
 
-}
\ No newline at end of file
+    @DisplayName("createNewAccessToken: 저장되지 않은 리프레시 토큰으로는 액세스 토큰을 발급하지 않는다.")
+    @Test
+    public void createNewAccessToken_unknownToken() throws Exception {
+        // given
+        final String url = "/api/token";
+
+        User testUser = userRepository.save(User.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .build());
+
+        String refreshToken = JwtFactory.builder()
+                .claims(Map.of("id", testUser.getId()))
+                .build()
+                .createToken(jwtProperties);
+
+        CreateAccessTokenRequest request = new CreateAccessTokenRequest();
+        request.setRefreshToken(refreshToken);
+        final String requestBody = objectMapper.writeValueAsString(request);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(requestBody));
+
+        // then
+        resultActions
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("createNewAccessToken: 유예 기간이 지난 뒤 이미 교체된 리프레시 토큰을 다시 쓰면 거부하고 사용자의 토큰을 폐기한다.")
+    @Test
+    public void createNewAccessToken_reusedToken() throws Exception {
+        // given
+        final String url = "/api/token";
+        BlogProperties.RefreshToken properties = blogProperties.getRefreshToken();
+        Duration gracePeriod = properties.getReuseGracePeriod();
+        properties.setReuseGracePeriod(Duration.ZERO);
+
+        try {
+            User testUser = userRepository.save(User.builder()
+                    .email("user@gmail.com")
+                    .password("test")
+                    .build());
+
+            String refreshToken = JwtFactory.builder()
+                    .claims(Map.of("id", testUser.getId(), "typ", "refresh"))
+                    .build()
+                    .createToken(jwtProperties);
+
+            refreshTokenService.save(testUser.getId(), refreshToken, Duration.ofDays(14));
+
+            String rotatedToken = rotate(url, refreshToken);
+
+            // when
+            ResultActions reuse = mockMvc.perform(post(url)
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .content(refreshTokenRequest(refreshToken)));
+
+            // then
+            reuse.andExpect(status().isUnauthorized());
+            mockMvc.perform(post(url)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(refreshTokenRequest(rotatedToken)))
+                    .andExpect(status().isUnauthorized());
+        } finally {
+            properties.setReuseGracePeriod(gracePeriod);
+        }
+    }
+
+    @DisplayName("createNewAccessToken: 교체 직후 같은 토큰으로 온 동시 요청에는 액세스 토큰만 발급하고 토큰을 폐기하지 않는다.")
+    @Test
+    public void createNewAccessToken_concurrentRefresh() throws Exception {
+        // given
+        final String url = "/api/token";
+
+        User testUser = userRepository.save(User.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .build());
+
+        String refreshToken = JwtFactory.builder()
+                .claims(Map.of("id", testUser.getId(), "typ", "refresh"))
+                .build()
+                .createToken(jwtProperties);
+
+        refreshTokenService.save(testUser.getId(), refreshToken, Duration.ofDays(14));
+
+        String rotatedToken = rotate(url, refreshToken);
+
+        // when
+        ResultActions retry = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(refreshTokenRequest(refreshToken)));
+
+        // then
+        retry.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.accessToken").isNotEmpty())
+                .andExpect(jsonPath("$.refreshToken").doesNotExist())
+                .andExpect(cookie().doesNotExist("refresh_token"));
+        mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(refreshTokenRequest(rotatedToken)))
+                .andExpect(status().isCreated());
+    }
+
+    private String rotate(String url, String refreshToken) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(refreshTokenRequest(refreshToken)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString()).get("refreshToken").asText();
+    }
+
+    private String refreshTokenRequest(String refreshToken) throws Exception {
+        CreateAccessTokenRequest request = new CreateAccessTokenRequest();
+        request.setRefreshToken(refreshToken);
+        return objectMapper.writeValueAsString(request);
+    }
+}
@@ -0,0 +1,82 @@
+package me.shinsunyoung.springbootdeveloper.service;
+
+import me.shinsunyoung.springbootdeveloper.config.BlogProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingArticlesTest {
+
+    @DisplayName("top(): 구간 내 많이 읽힌 글을 조회수 내림차순으로 반환한다.")
+    @Test
+    void top() {
+        // given
+        TrendingArticles trendingArticles = new TrendingArticles(new BlogProperties(), new MutableClock());
+        record(trendingArticles, 1L, 3);
+        record(trendingArticles, 2L, 1);
+        record(trendingArticles, 3L, 2);
+
+        // when
+        List<TrendingArticles.Entry> top = trendingArticles.top(TrendingWindow.HOUR, 2);
+
+        // then
+        assertThat(top).extracting(TrendingArticles.Entry::getArticleId).containsExactly(1L, 3L);
+        assertThat(top).extracting(TrendingArticles.Entry::getCount).containsExactly(3L, 2L);
+    }
+
+    @DisplayName("top(): 구간이 지난 조회는 집계에서 빠진다.")
+    @Test
+    void top_expiredBuckets() {
+        // given
+        MutableClock clock = new MutableClock();
+        TrendingArticles trendingArticles = new TrendingArticles(new BlogProperties(), clock);
+        record(trendingArticles, 1L, 5);
+
+        // when
+        clock.advance(Duration.ofHours(2));
+        record(trendingArticles, 2L, 1);
+
+        // then
+        assertThat(trendingArticles.top(TrendingWindow.HOUR, 10))
+                .extracting(TrendingArticles.Entry::getArticleId).containsExactly(2L);
+        assertThat(trendingArticles.top(TrendingWindow.DAY, 10))
+                .extracting(TrendingArticles.Entry::getArticleId).containsExactly(1L, 2L);
+    }
+
+    private static void record(TrendingArticles trendingArticles, long articleId, int times) {
+        for (int i = 0; i < times; i++) {
+            trendingArticles.record(articleId);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package me.shinsunyoung.springbootdeveloper.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @DisplayName("mightContain(): 추가한 값은 항상 true, 추가하지 않은 값의 오탐률은 설정값 근처다.")
+    @Test
+    void mightContain() {
+        // given
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            String digest = TokenDigestUtil.sha256("token-" + i);
+            filter.put(hash1(digest), hash2(digest));
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            String digest = TokenDigestUtil.sha256("other-" + i);
+            if (filter.mightContain(hash1(digest), hash2(digest))) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        for (int i = 0; i < 1_000; i++) {
+            String digest = TokenDigestUtil.sha256("token-" + i);
+            assertThat(filter.mightContain(hash1(digest), hash2(digest))).isTrue();
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    private static long hash1(String digest) {
+        return Long.parseUnsignedLong(digest, 0, 16, 16);
+    }
+
+    private static long hash2(String digest) {
+        return Long.parseUnsignedLong(digest, 16, 32, 16) | 1;
+    }
+}
@@ -0,0 +1,57 @@
+package me.shinsunyoung.springbootdeveloper.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingCounterTest {
+
+    @DisplayName("add(): 추적 중인 항목은 정확히 세고, 가득 차면 가장 작은 카운터를 새 항목에 넘긴다.")
+    @Test
+    void add() {
+        // given
+        SpaceSavingCounter counter = new SpaceSavingCounter(2);
+        add(counter, 1L, 3);
+        add(counter, 2L, 1);
+
+        // when
+        add(counter, 3L, 1);
+
+        // then
+        Map<Long, Long> counts = new HashMap<>();
+        counter.mergeInto(counts);
+        assertThat(counts).containsOnly(Map.entry(1L, 3L), Map.entry(3L, 2L));
+    }
+
+    @DisplayName("add(): 빈도가 높은 항목은 교체되지 않고 상위에 남는다.")
+    @Test
+    void add_heavyHitters() {
+        // given
+        SpaceSavingCounter counter = new SpaceSavingCounter(10);
+
+        // when
+        for (int round = 0; round < 1_000; round++) {
+            counter.add(1L);
+            counter.add(2L);
+            counter.add(100L + round); // 한 번씩만 나오는 항목
+        }
+
+        // then
+        Map<Long, Long> counts = new HashMap<>();
+        counter.mergeInto(counts);
+        assertThat(counts).hasSize(10);
+        assertThat(counts.get(1L)).isEqualTo(1_000L);
+        assertThat(counts.get(2L)).isEqualTo(1_000L);
+        assertThat(counts.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(3_000L);
+    }
+
+    private static void add(SpaceSavingCounter counter, long item, int times) {
+        for (int i = 0; i < times; i++) {
+            counter.add(item);
+        }
+    }
+}